@@ -0,0 +1,159 @@
+package graphs;
+
+/**
+ * Read-only view on a directed graph with integer edge variables. The edges
+ * leaving a vertex u are addressed by their slot, which is an index in
+ * [0, getOutDegree(u)), so algorithms can walk them without iterators
+ * @author N.C.M. van Nistelrooij
+ */
+public abstract class AdjacencyGraph {
+    private volatile long validation = (long)-1 << 32;
+
+    /**
+     * Gets number of vertices of the graph
+     * @return number of vertices
+     */
+    public abstract int getNrVertices();
+
+    /**
+     * Gets number of edge variables of the graph
+     * @return number of edge variables
+     */
+    public abstract int getNrEdgeVariables();
+
+    /**
+     * Gets number of edges of the graph
+     * @return number of edges
+     */
+    public abstract int getNrEdges();
+
+    /**
+     * Gets number of edges leaving vertex u
+     * @param u the vertex
+     * @return out-degree of u
+     */
+    public abstract int getOutDegree(int u);
+
+    /**
+     * Gets the destination vertex of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @return destination vertex of the edge
+     */
+    public abstract int getTarget(int u, int slot);
+
+    /**
+     * Gets edge variable edgeVariableNr of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @param edgeVariableNr edge variable number. Must be in [1,nrEdgeVariables]
+     * @return edge variable edgeVariableNr of the edge
+     */
+    public abstract int getSlotVariable(int u, int slot, int edgeVariableNr);
+
+    /**
+     * Gets the weight, which is edge variable 1, of the edge in slot slot of
+     * vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @return weight of the edge
+     */
+    public int getWeight(int u, int slot) {
+        return getSlotVariable(u, slot, 1);
+    }
+
+    /**
+     * Calls action with the destination vertex and the slot of every edge
+     * leaving u, in slot order
+     * @param u source vertex
+     * @param action the operation performed for every edge
+     */
+    public void forEachNeighbor(int u, IntIntConsumer action) {
+        int outDegree = getOutDegree(u);
+        for (int slot = 0; slot < outDegree; slot++) {
+            action.accept(getTarget(u, slot), slot);
+        }
+    }
+
+    /**
+     * Return whether the edge (src, dest) exists in the graph
+     * @param src source vertex
+     * @param dest destination vertex
+     * @return Whether or not (src, dest) exists in the graph
+     */
+    public boolean hasEdge(int src, int dest) {
+        int outDegree = getOutDegree(src);
+        for (int slot = 0; slot < outDegree; slot++) {
+            if (getTarget(src, slot) == dest) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the number of modifications of the graph, which changes whenever
+     * an edge is added, removed or changed. A graph that cannot be modified
+     * always returns 0
+     * @return the modification count
+     */
+    public int getModCount() {
+        return 0;
+    }
+
+    /**
+     * Return whether the properties have been validated since the graph was
+     * last modified
+     * @param properties the bit set of properties
+     * @return Whether or not all properties have been validated
+     */
+    boolean isValidated(int properties) {
+        long v = validation;
+        return (int)(v >>> 32) == getModCount()
+                && ((int)v & properties) == properties;
+    }
+
+    /**
+     * Records that the properties hold for the graph at modification count
+     * modCount, which is forgotten as soon as the graph is modified
+     * @param properties the bit set of properties
+     * @param modCount the modification count at which they were checked
+     */
+    void setValidated(int properties, int modCount) {
+        long v = validation;
+        if ((int)(v >>> 32) == modCount) {
+            properties |= (int)v;
+        }
+        validation = (long)modCount << 32 | (properties & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String toString() {
+        int nrVertices = getNrVertices();
+        int nrEdgeVariables = getNrEdgeVariables();
+        StringBuilder sb = new StringBuilder();
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                if (nrEdgeVariables == 0) {
+                    sb.append(String.format("%d - %d\n", u, getTarget(u, slot)));
+                } else {
+                    sb.append(String.format("%d - %d:\t", u,
+                            getTarget(u, slot)));
+                    for (int var = 1; var < nrEdgeVariables; var++) {
+                        sb.append(String.format("%d\t",
+                                getSlotVariable(u, slot, var)));
+                    }
+                    sb.append(String.format("%d\n",
+                            getSlotVariable(u, slot, nrEdgeVariables)));
+                }
+            }
+        }
+
+        if (sb.length() > 0) {
+            sb.deleteCharAt(sb.length() - 1);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package graphs;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distances from a source vertex and parents of the vertices of a graph,
+ * shared between the threads of a parallel shortest path algorithm. The
+ * distance and parent of a vertex are packed in one long, so that a
+ * relaxation updates them together by compare-and-set
+ * @author N.C.M. van Nistelrooij
+ */
+final class AtomicDistances {
+    private final AtomicLongArray states;
+
+    /**
+     * Initializes the distances from vertex s, which are 0 for s and
+     * Integer.MAX_VALUE for all other vertices, and no parents
+     * @param nrVertices number of vertices
+     * @param s the source vertex
+     */
+    AtomicDistances(int nrVertices, int s) {
+        states = new AtomicLongArray(nrVertices);
+        for (int v = 0; v < nrVertices; v++) {
+            states.set(v, pack(Integer.MAX_VALUE, -1));
+        }
+        states.set(s, pack(0, -1));
+    }
+
+    /**
+     * Gets the current distance of vertex v
+     * @param v the vertex
+     * @return the distance of v
+     */
+    int getDist(int v) {
+        return (int)(states.get(v) >>> Integer.SIZE);
+    }
+
+    /**
+     * Lowers the distance of vertex v to d with parent u, unless the
+     * distance of v is at most d already
+     * @param u the new parent of v
+     * @param v the vertex
+     * @param d the new distance of v
+     * @return whether or not the distance of v was lowered
+     */
+    boolean relax(int u, int v, int d) {
+        long state = states.get(v);
+        while ((int)(state >>> Integer.SIZE) > d) {
+            if (states.compareAndSet(v, state, pack(d, u))) {
+                return true;
+            }
+            state = states.get(v);
+        }
+
+        return false;
+    }
+
+    /**
+     * Copies the distances and parents to arrays
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    int[][] toArrays() {
+        int nrVertices = states.length();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            long state = states.get(v);
+            ds[v] = (int)(state >>> Integer.SIZE);
+            parents[v] = (int)state;
+        }
+
+        return new int[][]{ds, parents};
+    }
+
+    private static long pack(int d, int parent) {
+        return (long)d << Integer.SIZE | (parent & 0xFFFFFFFFL);
+    }
+}
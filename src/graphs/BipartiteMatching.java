@@ -0,0 +1,235 @@
+package graphs;
+
+/**
+ * Maximum matching in a bipartite graph by the algorithm of Hopcroft and
+ * Karp, where the direction of the edges is ignored. Every phase finds the
+ * length of a shortest augmenting path by a BFS from all free left vertices
+ * that alternates between unmatched and matched edges, and then augments
+ * along a maximal set of vertex-disjoint shortest augmenting paths found by
+ * DFS in the BFS layers. There are O(sqrt(V)) phases, so the matching takes
+ * O(E sqrt(V)) time
+ * @author N.C.M. van Nistelrooij
+ */
+final class BipartiteMatching {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int[] lefts;
+    private final int[] offsets;
+    private final int[] rights;
+    private final int[] mates;
+    private final int[] dists;
+    private final int[] currents;
+    private final int[] stack;
+
+    /**
+     * Initializes the matching of G with bipartition left
+     * @param G the input graph
+     * @param left whether or not every vertex is on the left side, where
+     * every edge must go between the two sides
+     */
+    BipartiteMatching(AdjacencyGraph G, boolean[] left) {
+        int nrVertices = G.getNrVertices();
+        offsets = new int[nrVertices + 1];
+        int nrLefts = 0;
+        for (int u = 0; u < nrVertices; u++) {
+            if (left[u]) {
+                nrLefts++;
+            }
+
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                if (left[u] == left[v]) {
+                    throw new IllegalArgumentException(String.format(
+                            "Edge (%d, %d) does not go between the two sides "
+                            + "of the bipartition", u, v));
+                }
+                offsets[(left[u] ? u : v) + 1]++;
+            }
+        }
+        for (int u = 0; u < nrVertices; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        lefts = new int[nrLefts];
+        rights = new int[offsets[nrVertices]];
+        int[] nexts = new int[nrVertices];
+        System.arraycopy(offsets, 0, nexts, 0, nrVertices);
+        for (int u = 0, i = 0; u < nrVertices; u++) {
+            if (left[u]) {
+                lefts[i++] = u;
+            }
+
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                if (left[u]) {
+                    rights[nexts[u]++] = v;
+                } else {
+                    rights[nexts[v]++] = u;
+                }
+            }
+        }
+
+        mates = new int[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            mates[v] = -1;
+        }
+        dists = new int[nrVertices];
+        currents = new int[nrVertices];
+        stack = new int[nrVertices];
+    }
+
+    /**
+     * Finds a bipartition of G by 2-coloring every connected component by
+     * BFS, where the direction of the edges is ignored
+     * @param G the input graph
+     * @return whether or not every vertex is on the left side, or null if G
+     * is not bipartite
+     */
+    static boolean[] getBipartition(AdjacencyGraph G) {
+        int nrVertices = G.getNrVertices();
+        int[] offsets = new int[nrVertices + 1];
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            offsets[u + 1] += outDegree;
+            for (int slot = 0; slot < outDegree; slot++) {
+                offsets[G.getTarget(u, slot) + 1]++;
+            }
+        }
+        for (int u = 0; u < nrVertices; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+        int[] neighbors = new int[offsets[nrVertices]];
+        int[] nexts = new int[nrVertices];
+        System.arraycopy(offsets, 0, nexts, 0, nrVertices);
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                neighbors[nexts[u]++] = v;
+                neighbors[nexts[v]++] = u;
+            }
+        }
+
+        boolean[] left = new boolean[nrVertices];
+        boolean[] colored = new boolean[nrVertices];
+        int[] queue = new int[nrVertices];
+        for (int r = 0; r < nrVertices; r++) {
+            if (colored[r]) {
+                continue;
+            }
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = r;
+            colored[r] = true;
+            left[r] = true;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int v = neighbors[i];
+                    if (!colored[v]) {
+                        colored[v] = true;
+                        left[v] = !left[u];
+                        queue[tail++] = v;
+                    } else if (left[v] == left[u]) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        return left;
+    }
+
+    /**
+     * Computes a maximum matching
+     * @return the vertex every vertex is matched to, or -1 if it is not
+     * matched
+     */
+    int[] run() {
+        while (computeLayers()) {
+            for (int u : lefts) {
+                currents[u] = offsets[u];
+            }
+            for (int u : lefts) {
+                if (mates[u] == -1 && dists[u] == 0) {
+                    augment(u);
+                }
+            }
+        }
+
+        return mates;
+    }
+
+    private boolean computeLayers() {
+        int head = 0;
+        int tail = 0;
+        for (int u : lefts) {
+            if (mates[u] == -1) {
+                dists[u] = 0;
+                stack[tail++] = u;
+            } else {
+                dists[u] = INFINITY;
+            }
+        }
+
+        int freeDist = INFINITY;
+        while (head < tail) {
+            int u = stack[head++];
+            if (dists[u] >= freeDist) {
+                break;
+            }
+
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                int w = mates[rights[i]];
+                if (w == -1) {
+                    freeDist = dists[u] + 1;
+                } else if (dists[w] == INFINITY) {
+                    dists[w] = dists[u] + 1;
+                    stack[tail++] = w;
+                }
+            }
+        }
+
+        for (int u : lefts) {
+            if (dists[u] >= freeDist) {
+                dists[u] = INFINITY;
+            }
+        }
+
+        return freeDist != INFINITY;
+    }
+
+    private void augment(int root) {
+        int depth = 0;
+        stack[0] = root;
+        while (depth >= 0) {
+            int u = stack[depth];
+            if (currents[u] == offsets[u + 1]) {
+                dists[u] = INFINITY;
+                depth--;
+                continue;
+            }
+
+            int w = mates[rights[currents[u]]];
+            if (w == -1) {
+                for (int i = depth; i >= 0; i--) {
+                    int x = stack[i];
+                    int v = rights[currents[x]];
+                    mates[x] = v;
+                    mates[v] = x;
+                    dists[x] = INFINITY;
+                }
+                return;
+            }
+
+            if (dists[w] == dists[u] + 1) {
+                stack[++depth] = w;
+            } else {
+                currents[u]++;
+            }
+        }
+    }
+}
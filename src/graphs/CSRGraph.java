@@ -0,0 +1,236 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Immutable graph in compressed sparse row form. The edges of vertex u are
+ * stored in slots offsets[u] up to offsets[u + 1] of the targets array and of
+ * one array per edge variable, so traversals read memory sequentially
+ * @author N.C.M. van Nistelrooij
+ */
+public final class CSRGraph extends AdjacencyGraph {
+    private final int nrVertices;
+    private final int nrEdgeVariables;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[][] variables;
+
+    /**
+     * Initializes a frozen copy of G, keeping the order of every adjacency
+     * list
+     * @param G the graph to copy
+     */
+    public CSRGraph(AdjacencyGraph G) {
+        nrVertices = G.getNrVertices();
+        nrEdgeVariables = G.getNrEdgeVariables();
+        offsets = new int[nrVertices + 1];
+        for (int u = 0; u < nrVertices; u++) {
+            offsets[u + 1] = offsets[u] + G.getOutDegree(u);
+        }
+
+        int nrEdges = offsets[nrVertices];
+        targets = new int[nrEdges];
+        variables = new int[nrEdgeVariables][nrEdges];
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = offsets[u + 1] - offsets[u];
+            for (int slot = 0; slot < outDegree; slot++) {
+                int e = offsets[u] + slot;
+                targets[e] = G.getTarget(u, slot);
+                for (int var = 1; var <= nrEdgeVariables; var++) {
+                    variables[var - 1][e] = G.getSlotVariable(u, slot, var);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets number of vertices of the graph
+     * @return number of vertices
+     */
+    @Override
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Gets number of edge variables of the graph
+     * @return number of edge variables
+     */
+    @Override
+    public int getNrEdgeVariables() {
+        return nrEdgeVariables;
+    }
+
+    /**
+     * Gets number of edges of the graph
+     * @return number of edges
+     */
+    @Override
+    public int getNrEdges() {
+        return targets.length;
+    }
+
+    /**
+     * Gets number of edges leaving vertex u
+     * @param u the vertex
+     * @return out-degree of u
+     */
+    @Override
+    public int getOutDegree(int u) {
+        checkVertex(u);
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /**
+     * Gets the destination vertex of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @return destination vertex of the edge
+     */
+    @Override
+    public int getTarget(int u, int slot) {
+        return targets[offsets[u] + slot];
+    }
+
+    /**
+     * Gets edge variable edgeVariableNr of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @param edgeVariableNr edge variable number. Must be in [1,nrEdgeVariables]
+     * @return edge variable edgeVariableNr of the edge
+     */
+    @Override
+    public int getSlotVariable(int u, int slot, int edgeVariableNr) {
+        return variables[edgeVariableNr - 1][offsets[u] + slot];
+    }
+
+    /**
+     * Gets the weight, which is edge variable 1, of the edge in slot slot of
+     * vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @return weight of the edge
+     */
+    @Override
+    public int getWeight(int u, int slot) {
+        return variables[0][offsets[u] + slot];
+    }
+
+    /**
+     * Calls action with the destination vertex and the slot of every edge
+     * leaving u, in slot order
+     * @param u source vertex
+     * @param action the operation performed for every edge
+     */
+    @Override
+    public void forEachNeighbor(int u, IntIntConsumer action) {
+        checkVertex(u);
+        int first = offsets[u];
+        for (int e = first; e < offsets[u + 1]; e++) {
+            action.accept(targets[e], e - first);
+        }
+    }
+
+    /**
+     * Gets edge variable edgeVariableNr of edge (src, dest)
+     * @param src source vertex
+     * @param dest destination vertex
+     * @param edgeVariableNr edge variable number. Must be in [1,nrEdgeVariables]
+     * @return edge variable edgeVariableNr of edge (src, dest) if it exists
+     */
+    public int getEdgeVariable(int src, int dest, int edgeVariableNr) {
+        checkEdgeVariableNr(edgeVariableNr);
+
+        return variables[edgeVariableNr - 1][getEdge(src, dest)];
+    }
+
+    /**
+     * Gets egde variables of edge (src, dest)
+     * @param src source vertex
+     * @param dest destination vertex
+     * @return edge variables of edge (src, dest) if it exists
+     */
+    public int[] getEdgeVariables(int src, int dest) {
+        int e = getEdge(src, dest);
+
+        int[] vars = new int[nrEdgeVariables];
+        for (int var = 0; var < nrEdgeVariables; var++) {
+            vars[var] = variables[var][e];
+        }
+        return vars;
+    }
+
+    /**
+     * Copies the graph back into a mutable Graph with the same adjacency
+     * lists
+     * @return the mutable copy
+     */
+    public Graph toGraph() {
+        Graph G = new Graph(nrVertices, nrEdgeVariables);
+        for (int u = 0; u < nrVertices; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int[] vars = new int[nrEdgeVariables + 1];
+                vars[0] = targets[e];
+                for (int var = 1; var <= nrEdgeVariables; var++) {
+                    vars[var] = variables[var - 1][e];
+                }
+                G.addEdge(u, vars);
+            }
+        }
+
+        return G;
+    }
+
+    private int getEdge(int src, int dest) {
+        checkVertex(src);
+        for (int e = offsets[src]; e < offsets[src + 1]; e++) {
+            if (targets[e] == dest) {
+                return e;
+            }
+        }
+
+        throw new IllegalArgumentException(String.format(
+                "Edge (%d, %d) does not exist"
+                + " in the graph", src, dest));
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+
+    private void checkEdgeVariableNr(int edgeVariableNr) {
+        if (edgeVariableNr > nrEdgeVariables) {
+            throw new IllegalArgumentException(String.format("Edge variable "
+                    + "%d does not exist, because there is/are only %d edge "
+                    + "variable(s).", edgeVariableNr, nrEdgeVariables));
+        }
+        if (edgeVariableNr == 0) {
+            throw new IllegalArgumentException("Edge variable 0 is the "
+                    + "destination vertex and so not an edge variable.");
+        }
+        if (edgeVariableNr < 0) {
+            throw new IllegalArgumentException("Negative edge variable number.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CSRGraph) {
+            CSRGraph G = (CSRGraph)o;
+
+            return Arrays.equals(offsets, G.offsets)
+                    && Arrays.equals(targets, G.targets)
+                    && Arrays.deepEquals(variables, G.variables);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(offsets) + Arrays.hashCode(targets);
+    }
+}
@@ -0,0 +1,518 @@
+package graphs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Contraction hierarchy of a graph with positive edge weights for fast
+ * shortest path queries. The vertices are contracted one by one in order of
+ * increasing importance. Contracting vertex v adds a shortcut u -> w with
+ * weight w(u, v) + w(v, w) for every path u -> v -> w for which a witness
+ * search does not find a path from u to w that avoids v and is at most as
+ * long. Every shortest path then has a shortest path in the augmented graph
+ * that first only goes up and then only goes down in the order, so a query
+ * is a bidirectional Dijkstra search that only goes up in both directions.
+ * Queries reuse one search workspace, so they must not run concurrently
+ * @author N.C.M. van Nistelrooij
+ */
+public final class ContractionHierarchy {
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final int nrVertices;
+    private final int[] ranks;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upMiddles;
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final int[] downWeights;
+    private final int[] downMiddles;
+
+    private final int[] distsF;
+    private final int[] distsB;
+    private final int[] parentsF;
+    private final int[] parentsB;
+    private final int[] middlesF;
+    private final int[] middlesB;
+    private final IndexedDaryHeap QF;
+    private final IndexedDaryHeap QB;
+    private final int[] touched;
+    private int nrTouched;
+
+    /**
+     * Computes the contraction hierarchy of G, where the next vertex to
+     * contract is the one with the smallest edge difference, the number of
+     * shortcuts its contraction adds minus its degree, plus its number of
+     * already contracted neighbors
+     * @param G the input graph with only positive edge weights
+     */
+    public ContractionHierarchy(AdjacencyGraph G) {
+        Graphs.checkNrEdgeVariables(G, 1);
+        Graphs.checkNonPositiveEdgeWeights(G);
+
+        nrVertices = G.getNrVertices();
+        ranks = new int[nrVertices];
+
+        Contractor contractor = new Contractor(G);
+        contractor.contractAll(ranks);
+
+        upOffsets = new int[nrVertices + 1];
+        downOffsets = new int[nrVertices + 1];
+        for (int v = 0; v < nrVertices; v++) {
+            upOffsets[v + 1] = upOffsets[v] + contractor.outs[v].size;
+            downOffsets[v + 1] = downOffsets[v] + contractor.ins[v].size;
+        }
+        upTargets = new int[upOffsets[nrVertices]];
+        upWeights = new int[upOffsets[nrVertices]];
+        upMiddles = new int[upOffsets[nrVertices]];
+        downSources = new int[downOffsets[nrVertices]];
+        downWeights = new int[downOffsets[nrVertices]];
+        downMiddles = new int[downOffsets[nrVertices]];
+        for (int v = 0; v < nrVertices; v++) {
+            contractor.outs[v].copyTo(upTargets, upWeights, upMiddles,
+                    upOffsets[v]);
+            contractor.ins[v].copyTo(downSources, downWeights, downMiddles,
+                    downOffsets[v]);
+        }
+
+        distsF = new int[nrVertices];
+        distsB = new int[nrVertices];
+        parentsF = new int[nrVertices];
+        parentsB = new int[nrVertices];
+        middlesF = new int[nrVertices];
+        middlesB = new int[nrVertices];
+        QF = new IndexedDaryHeap(nrVertices);
+        QB = new IndexedDaryHeap(nrVertices);
+        touched = new int[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            distsF[v] = Integer.MAX_VALUE;
+            distsB[v] = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Gets number of vertices
+     * @return number of vertices
+     */
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Gets the position of vertex v in the contraction order
+     * @param v the vertex
+     * @return the rank of v, where the first contracted vertex has rank 0
+     */
+    public int getRank(int v) {
+        checkVertex(v);
+        return ranks[v];
+    }
+
+    /**
+     * Gets number of shortcuts in the hierarchy
+     * @return number of shortcuts
+     */
+    public int getNrShortcuts() {
+        int nrShortcuts = 0;
+        for (int middle : upMiddles) {
+            if (middle != -1) {
+                nrShortcuts++;
+            }
+        }
+        for (int middle : downMiddles) {
+            if (middle != -1) {
+                nrShortcuts++;
+            }
+        }
+
+        return nrShortcuts;
+    }
+
+    /**
+     * Computes the distance from vertex s to vertex t
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return the distance from s to t, or Integer.MAX_VALUE if t cannot be
+     * reached from s
+     */
+    public int getDistance(int s, int t) {
+        int meet = search(s, t);
+        int distance = meet == -1 ? Integer.MAX_VALUE
+                : distsF[meet] + distsB[meet];
+        reset();
+        return distance;
+    }
+
+    /**
+     * Computes a shortest path from vertex s to vertex t in the input graph,
+     * with all shortcuts unpacked
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return the array of vertices on a shortest path from s to t, which is
+     * empty if t cannot be reached from s
+     */
+    public int[] getPath(int s, int t) {
+        int meet = search(s, t);
+        if (meet == -1) {
+            reset();
+            return new int[0];
+        }
+
+        List<int[]> packed = new ArrayList<>();
+        for (int v = meet; v != s; v = parentsF[v]) {
+            packed.add(new int[]{parentsF[v], v, middlesF[v]});
+        }
+        Collections.reverse(packed);
+        for (int v = meet; v != t; v = parentsB[v]) {
+            packed.add(new int[]{v, parentsB[v], middlesB[v]});
+        }
+        reset();
+
+        List<Integer> path = new ArrayList<>();
+        path.add(s);
+        for (int[] edge : packed) {
+            unpack(edge, path);
+        }
+
+        int[] output = new int[path.size()];
+        for (int i = 0; i < output.length; i++) {
+            output[i] = path.get(i);
+        }
+        return output;
+    }
+
+    private int search(int s, int t) {
+        checkVertex(s);
+        checkVertex(t);
+
+        visit(s, distsF, distsB, parentsF, middlesF, QF, -1, 0, -1);
+        visit(t, distsB, distsF, parentsB, middlesB, QB, -1, 0, -1);
+        long best = Integer.MAX_VALUE;
+        int meet = -1;
+        while (true) {
+            long minF = QF.isEmpty() ? Integer.MAX_VALUE
+                    : QF.getKey(QF.peekMin());
+            long minB = QB.isEmpty() ? Integer.MAX_VALUE
+                    : QB.getKey(QB.peekMin());
+            if (Math.min(minF, minB) >= best) {
+                break;
+            }
+
+            boolean forward = minF <= minB;
+            int u = forward ? QF.extractMin() : QB.extractMin();
+            long d = (long)distsF[u] + distsB[u];
+            if (distsF[u] != Integer.MAX_VALUE
+                    && distsB[u] != Integer.MAX_VALUE && d < best) {
+                best = d;
+                meet = u;
+            }
+
+            if (forward) {
+                for (int i = upOffsets[u]; i < upOffsets[u + 1]; i++) {
+                    visit(upTargets[i], distsF, distsB, parentsF, middlesF,
+                            QF, u, (long)distsF[u] + upWeights[i],
+                            upMiddles[i]);
+                }
+            } else {
+                for (int i = downOffsets[u]; i < downOffsets[u + 1]; i++) {
+                    visit(downSources[i], distsB, distsF, parentsB, middlesB,
+                            QB, u, (long)distsB[u] + downWeights[i],
+                            downMiddles[i]);
+                }
+            }
+        }
+
+        return meet;
+    }
+
+    private void visit(int v, int[] ds, int[] otherDs, int[] parents,
+            int[] middles, IndexedDaryHeap Q, int u, long d, int middle) {
+        if (ds[v] > d) {
+            if (ds[v] == Integer.MAX_VALUE) {
+                if (otherDs[v] == Integer.MAX_VALUE) {
+                    touched[nrTouched++] = v;
+                }
+                Q.insert(v, (int)d);
+            } else if (Q.contains(v)) {
+                Q.decreaseKey(v, (int)d);
+            }
+            ds[v] = (int)d;
+            parents[v] = u;
+            middles[v] = middle;
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < nrTouched; i++) {
+            distsF[touched[i]] = Integer.MAX_VALUE;
+            distsB[touched[i]] = Integer.MAX_VALUE;
+        }
+        nrTouched = 0;
+        QF.clear();
+        QB.clear();
+    }
+
+    private void unpack(int[] edge, List<Integer> path) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(edge);
+        while (!stack.isEmpty()) {
+            int[] e = stack.pop();
+            int u = e[0];
+            int w = e[1];
+            int middle = e[2];
+            if (middle == -1) {
+                path.add(w);
+            } else {
+                stack.push(new int[]{middle, w, getMiddle(middle, w)});
+                stack.push(new int[]{u, middle, getMiddle(u, middle)});
+            }
+        }
+    }
+
+    private int getMiddle(int u, int w) {
+        if (ranks[u] < ranks[w]) {
+            for (int i = upOffsets[u]; i < upOffsets[u + 1]; i++) {
+                if (upTargets[i] == w) {
+                    return upMiddles[i];
+                }
+            }
+        } else {
+            for (int i = downOffsets[w]; i < downOffsets[w + 1]; i++) {
+                if (downSources[i] == u) {
+                    return downMiddles[i];
+                }
+            }
+        }
+
+        throw new IllegalStateException(String.format("Edge (%d, %d) does "
+                + "not exist in the hierarchy", u, w));
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+
+    /**
+     * Growable list of weighted edges to or from one vertex, where the middle
+     * of an edge is the contracted vertex it is a shortcut over, or -1 if it
+     * is an edge of the input graph
+     */
+    private static final class EdgeList {
+        private int size;
+        private int[] vertices = new int[2];
+        private int[] weights = new int[2];
+        private int[] middles = new int[2];
+
+        private int indexOf(int v) {
+            for (int i = 0; i < size; i++) {
+                if (vertices[i] == v) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private void add(int v, int weight, int middle) {
+            if (size == vertices.length) {
+                int capacity = 2 * size;
+                vertices = Arrays.copyOf(vertices, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                middles = Arrays.copyOf(middles, capacity);
+            }
+            vertices[size] = v;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+        }
+
+        private void set(int i, int weight, int middle) {
+            weights[i] = weight;
+            middles[i] = middle;
+        }
+
+        private void remove(int v) {
+            int i = indexOf(v);
+            size--;
+            vertices[i] = vertices[size];
+            weights[i] = weights[size];
+            middles[i] = middles[size];
+        }
+
+        private void copyTo(int[] vs, int[] ws, int[] ms, int offset) {
+            System.arraycopy(vertices, 0, vs, offset, size);
+            System.arraycopy(weights, 0, ws, offset, size);
+            System.arraycopy(middles, 0, ms, offset, size);
+        }
+    }
+
+    /**
+     * State of the contraction, where outs[v] and ins[v] hold the edges
+     * between v and the vertices that are not yet contracted. Once v is
+     * contracted they are exactly the upward edges of v
+     */
+    private static final class Contractor {
+        private final int nrVertices;
+        private final EdgeList[] outs;
+        private final EdgeList[] ins;
+        private final int[] nrContractedNeighbors;
+        private final int[] witnessDists;
+        private final IndexedDaryHeap witnessQ;
+        private final int[] witnessTouched;
+        private int nrWitnessTouched;
+
+        private Contractor(AdjacencyGraph G) {
+            nrVertices = G.getNrVertices();
+            outs = new EdgeList[nrVertices];
+            ins = new EdgeList[nrVertices];
+            for (int v = 0; v < nrVertices; v++) {
+                outs[v] = new EdgeList();
+                ins[v] = new EdgeList();
+            }
+            for (int u = 0; u < nrVertices; u++) {
+                int outDegree = G.getOutDegree(u);
+                for (int slot = 0; slot < outDegree; slot++) {
+                    int v = G.getTarget(u, slot);
+                    if (u != v) {
+                        outs[u].add(v, G.getWeight(u, slot), -1);
+                        ins[v].add(u, G.getWeight(u, slot), -1);
+                    }
+                }
+            }
+
+            nrContractedNeighbors = new int[nrVertices];
+            witnessDists = new int[nrVertices];
+            witnessQ = new IndexedDaryHeap(nrVertices);
+            witnessTouched = new int[nrVertices];
+            for (int v = 0; v < nrVertices; v++) {
+                witnessDists[v] = Integer.MAX_VALUE;
+            }
+        }
+
+        private void contractAll(int[] ranks) {
+            IndexedDaryHeap Q = new IndexedDaryHeap(nrVertices);
+            for (int v = 0; v < nrVertices; v++) {
+                Q.insert(v, getPriority(v));
+            }
+
+            int rank = 0;
+            while (!Q.isEmpty()) {
+                int v = Q.extractMin();
+                int priority = getPriority(v);
+                if (!Q.isEmpty() && priority > Q.getKey(Q.peekMin())) {
+                    Q.insert(v, priority);
+                    continue;
+                }
+
+                ranks[v] = rank++;
+                contract(v, false);
+                for (int i = 0; i < outs[v].size; i++) {
+                    int w = outs[v].vertices[i];
+                    ins[w].remove(v);
+                    nrContractedNeighbors[w]++;
+                }
+                for (int i = 0; i < ins[v].size; i++) {
+                    int u = ins[v].vertices[i];
+                    outs[u].remove(v);
+                    if (outs[v].indexOf(u) == -1) {
+                        nrContractedNeighbors[u]++;
+                    }
+                }
+            }
+        }
+
+        private int getPriority(int v) {
+            return contract(v, true) - outs[v].size - ins[v].size
+                    + nrContractedNeighbors[v];
+        }
+
+        private int contract(int v, boolean simulate) {
+            EdgeList in = ins[v];
+            EdgeList out = outs[v];
+            int maxOutWeight = 0;
+            for (int j = 0; j < out.size; j++) {
+                maxOutWeight = Math.max(maxOutWeight, out.weights[j]);
+            }
+
+            int nrShortcuts = 0;
+            for (int i = 0; i < in.size && out.size > 0; i++) {
+                int u = in.vertices[i];
+                witnessSearch(u, v, (long)in.weights[i] + maxOutWeight);
+                for (int j = 0; j < out.size; j++) {
+                    int w = out.vertices[j];
+                    long weight = (long)in.weights[i] + out.weights[j];
+                    if (w == u || weight >= Integer.MAX_VALUE
+                            || witnessDists[w] <= weight) {
+                        continue;
+                    }
+
+                    nrShortcuts++;
+                    if (!simulate) {
+                        addShortcut(u, w, (int)weight, v);
+                    }
+                }
+                clearWitnessSearch();
+            }
+
+            return nrShortcuts;
+        }
+
+        private void addShortcut(int u, int w, int weight, int v) {
+            int i = outs[u].indexOf(w);
+            if (i == -1) {
+                outs[u].add(w, weight, v);
+                ins[w].add(u, weight, v);
+            } else if (weight < outs[u].weights[i]) {
+                outs[u].set(i, weight, v);
+                ins[w].set(ins[w].indexOf(u), weight, v);
+            }
+        }
+
+        private void witnessSearch(int s, int v, long maxDist) {
+            witnessDists[s] = 0;
+            witnessTouched[nrWitnessTouched++] = s;
+            witnessQ.insert(s, 0);
+            int nrSettled = 0;
+            while (!witnessQ.isEmpty() && nrSettled < WITNESS_SETTLE_LIMIT) {
+                int u = witnessQ.extractMin();
+                if (witnessDists[u] > maxDist) {
+                    break;
+                }
+                nrSettled++;
+
+                EdgeList out = outs[u];
+                for (int i = 0; i < out.size; i++) {
+                    int w = out.vertices[i];
+                    long d = (long)witnessDists[u] + out.weights[i];
+                    if (w == v || witnessDists[w] <= d) {
+                        continue;
+                    }
+
+                    if (witnessDists[w] == Integer.MAX_VALUE) {
+                        witnessTouched[nrWitnessTouched++] = w;
+                        witnessQ.insert(w, (int)d);
+                    } else {
+                        witnessQ.decreaseKey(w, (int)d);
+                    }
+                    witnessDists[w] = (int)d;
+                }
+            }
+        }
+
+        private void clearWitnessSearch() {
+            for (int i = 0; i < nrWitnessTouched; i++) {
+                witnessDists[witnessTouched[i]] = Integer.MAX_VALUE;
+            }
+            nrWitnessTouched = 0;
+            witnessQ.clear();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping single source shortest paths after Meyer and Sanders. The
+ * tentative distances are kept in buckets of width delta, which are settled
+ * in increasing order. The edges with weight at most delta are light and
+ * relaxing them can add vertices to the current bucket, so they are relaxed
+ * in rounds until the bucket stays empty. The heavy edges are then relaxed
+ * once for all vertices removed from the bucket. Every round relaxes the
+ * edges of its vertices in parallel on the common ForkJoinPool
+ * @author N.C.M. van Nistelrooij
+ */
+final class DeltaStepping {
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private final int nrVertices;
+    private final int delta;
+    private final int[] offsets;
+    private final int[] lightEnds;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private final int[] takeStamps;
+    private final int[] settled;
+    private final boolean[] isSettled;
+    private int nrSettled;
+    private int nrPending;
+    private int takeStamp;
+
+    /**
+     * Initializes delta-stepping on G with buckets of width delta, where the
+     * edges of every vertex are stored with the light edges first
+     * @param G the input graph with only positive edge weights
+     * @param delta the bucket width
+     */
+    DeltaStepping(AdjacencyGraph G, int delta) {
+        this.delta = delta;
+        nrVertices = G.getNrVertices();
+        offsets = new int[nrVertices + 1];
+        lightEnds = new int[nrVertices];
+        for (int u = 0; u < nrVertices; u++) {
+            offsets[u + 1] = offsets[u] + G.getOutDegree(u);
+        }
+        targets = new int[offsets[nrVertices]];
+        weights = new int[offsets[nrVertices]];
+
+        int maxWeight = 0;
+        for (int u = 0; u < nrVertices; u++) {
+            int light = offsets[u];
+            int heavy = offsets[u + 1];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int w = G.getWeight(u, slot);
+                int i = w <= delta ? light++ : --heavy;
+                targets[i] = G.getTarget(u, slot);
+                weights[i] = w;
+                maxWeight = Math.max(maxWeight, w);
+            }
+            lightEnds[u] = light;
+        }
+
+        buckets = new int[maxWeight / delta + 2][];
+        bucketSizes = new int[buckets.length];
+        for (int b = 0; b < buckets.length; b++) {
+            buckets[b] = new int[4];
+        }
+        takeStamps = new int[nrVertices];
+        settled = new int[nrVertices];
+        isSettled = new boolean[nrVertices];
+    }
+
+    /**
+     * Chooses the bucket width for G as the average edge weight divided by
+     * the average out-degree, which is the choice of Meyer and Sanders for
+     * uniformly distributed edge weights. Smaller widths relax fewer
+     * edges more than once and larger widths need fewer rounds
+     * @param G the input graph with only positive edge weights
+     * @return the bucket width
+     */
+    static int getDelta(AdjacencyGraph G) {
+        int nrVertices = G.getNrVertices();
+        long totalWeight = 0;
+        long nrEdges = 0;
+        int maxWeight = 1;
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int w = G.getWeight(u, slot);
+                totalWeight += w;
+                maxWeight = Math.max(maxWeight, w);
+            }
+            nrEdges += outDegree;
+        }
+        if (nrEdges == 0) {
+            return 1;
+        }
+
+        double delta = (double)totalWeight / nrEdges * nrVertices / nrEdges;
+        return (int)Math.max(1, Math.min(delta, maxWeight));
+    }
+
+    /**
+     * Runs delta-stepping from vertex s. Can only be called once
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    int[][] run(int s) {
+        AtomicDistances dists = new AtomicDistances(nrVertices, s);
+        insert(dists, new int[]{s});
+
+        for (int b = 0; nrPending > 0; b++) {
+            if (bucketSizes[b % buckets.length] == 0) {
+                continue;
+            }
+
+            int start = nrSettled;
+            while (bucketSizes[b % buckets.length] > 0) {
+                int[] frontier = take(dists, b);
+                settle(frontier);
+                insert(dists, relax(dists, frontier, true));
+            }
+            insert(dists, relax(dists,
+                    Arrays.copyOfRange(settled, start, nrSettled), false));
+        }
+
+        return dists.toArrays();
+    }
+
+    private int[] take(AtomicDistances dists, int b) {
+        int slot = b % buckets.length;
+        int[] bucket = buckets[slot];
+        int size = bucketSizes[slot];
+        buckets[slot] = new int[4];
+        bucketSizes[slot] = 0;
+        nrPending -= size;
+
+        takeStamp++;
+        int nrTaken = 0;
+        for (int i = 0; i < size; i++) {
+            int v = bucket[i];
+            if (dists.getDist(v) / delta == b
+                    && takeStamps[v] != takeStamp) {
+                takeStamps[v] = takeStamp;
+                bucket[nrTaken++] = v;
+            }
+        }
+
+        return Arrays.copyOf(bucket, nrTaken);
+    }
+
+    private void settle(int[] frontier) {
+        for (int v : frontier) {
+            if (!isSettled[v]) {
+                isSettled[v] = true;
+                settled[nrSettled++] = v;
+            }
+        }
+    }
+
+    private void insert(AtomicDistances dists, int[] vertices) {
+        for (int v : vertices) {
+            int slot = dists.getDist(v) / delta % buckets.length;
+            if (bucketSizes[slot] == buckets[slot].length) {
+                buckets[slot] = Arrays.copyOf(buckets[slot],
+                        2 * bucketSizes[slot]);
+            }
+            buckets[slot][bucketSizes[slot]++] = v;
+            nrPending++;
+        }
+    }
+
+    private int[] relax(AtomicDistances dists, int[] frontier,
+            boolean light) {
+        int nrRelaxations = 0;
+        for (int u : frontier) {
+            nrRelaxations += light ? lightEnds[u] - offsets[u]
+                    : offsets[u + 1] - lightEnds[u];
+        }
+        int[] updated = new int[nrRelaxations];
+        AtomicInteger nrUpdated = new AtomicInteger();
+
+        IntStream range = IntStream.range(0, frontier.length);
+        if (frontier.length >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(i -> {
+            int u = frontier[i];
+            int from = light ? offsets[u] : lightEnds[u];
+            int to = light ? lightEnds[u] : offsets[u + 1];
+            for (int e = from; e < to; e++) {
+                long d = (long)dists.getDist(u) + weights[e];
+                if (d < Integer.MAX_VALUE
+                        && dists.relax(u, targets[e], (int)d)) {
+                    updated[nrUpdated.getAndIncrement()] = targets[e];
+                }
+            }
+        });
+
+        return Arrays.copyOf(updated, nrUpdated.get());
+    }
+}
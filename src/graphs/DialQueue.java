@@ -0,0 +1,185 @@
+package graphs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone bucket queue after Dial for the elements 0, ..., capacity - 1. All
+ * keys in the queue lie between the last extracted key, initially 0, and that
+ * key plus maxKeySpread, so maxKeySpread + 1 cyclic buckets of doubly linked
+ * elements are enough. Inserting and decreasing a key take O(1) time and extracting
+ * the minimum takes time linear in the distance between consecutive minima
+ * @author N.C.M. van Nistelrooij
+ */
+public final class DialQueue implements IntPriorityQueue {
+    private final int maxKeySpread;
+    private final int[] heads;
+    private final int[] nexts;
+    private final int[] prevs;
+    private final int[] keys;
+    private final boolean[] inQueue;
+    private int size;
+    private int last;
+
+    /**
+     * Initializes an empty queue for the elements 0, ..., capacity - 1 in
+     * which keys differ at most maxKeySpread from the last extracted key
+     * @param capacity number of elements that can be in the queue
+     * @param maxKeySpread the largest difference between a key and the last
+     * extracted key, for Dijkstra's algorithm the maximum edge weight
+     */
+    public DialQueue(int capacity, int maxKeySpread) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cannot have a negative "
+                    + "capacity.");
+        }
+        if (maxKeySpread < 0) {
+            throw new IllegalArgumentException("Cannot have a negative key "
+                    + "spread.");
+        }
+
+        this.maxKeySpread = maxKeySpread;
+        heads = new int[maxKeySpread + 1];
+        nexts = new int[capacity];
+        prevs = new int[capacity];
+        keys = new int[capacity];
+        inQueue = new boolean[capacity];
+        for (int b = 0; b <= maxKeySpread; b++) {
+            heads[b] = -1;
+        }
+    }
+
+    /**
+     * Return whether the queue is empty
+     * @return Whether or not the queue contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return whether element v is in the queue
+     * @param v the element
+     * @return Whether or not v is in the queue
+     */
+    @Override
+    public boolean contains(int v) {
+        checkElement(v);
+        return inQueue[v];
+    }
+
+    /**
+     * Inserts element v with key key
+     * @param v the element, which must not be in the queue
+     * @param key the key of v. Must lie between the last extracted key, or 0
+     * if no key has been extracted yet, and that key plus maxKeySpread
+     */
+    @Override
+    public void insert(int v, int key) {
+        checkElement(v);
+        if (inQueue[v]) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "already in the queue.", v));
+        }
+        checkKey(key);
+
+        keys[v] = key;
+        link(v);
+        inQueue[v] = true;
+        size++;
+    }
+
+    /**
+     * Decreases the key of element v to key
+     * @param v the element, which must be in the queue
+     * @param key the new key of v. Must not be larger than the current key
+     * and not smaller than the last extracted key
+     */
+    @Override
+    public void decreaseKey(int v, int key) {
+        checkContains(v);
+        if (key > keys[v]) {
+            throw new IllegalArgumentException(String.format("The new key %d "
+                    + "is larger than the current key %d.", key, keys[v]));
+        }
+        checkKey(key);
+
+        unlink(v);
+        keys[v] = key;
+        link(v);
+    }
+
+    /**
+     * Removes the element with the smallest key and returns it
+     * @return the element with the smallest key
+     */
+    @Override
+    public int extractMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        while (heads[bucket(last)] == -1) {
+            last++;
+        }
+
+        int min = heads[bucket(last)];
+        unlink(min);
+        inQueue[min] = false;
+        size--;
+        return min;
+    }
+
+    private int bucket(int key) {
+        return Math.floorMod(key, maxKeySpread + 1);
+    }
+
+    private void link(int v) {
+        int b = bucket(keys[v]);
+        int head = heads[b];
+        nexts[v] = head;
+        prevs[v] = -1;
+        if (head != -1) {
+            prevs[head] = v;
+        }
+        heads[b] = v;
+    }
+
+    private void unlink(int v) {
+        if (prevs[v] == -1) {
+            heads[bucket(keys[v])] = nexts[v];
+        } else {
+            nexts[prevs[v]] = nexts[v];
+        }
+        if (nexts[v] != -1) {
+            prevs[nexts[v]] = prevs[v];
+        }
+    }
+
+    private void checkKey(int key) {
+        if (key < last) {
+            throw new IllegalArgumentException(String.format("Key %d is "
+                    + "smaller than the last extracted key %d.", key, last));
+        }
+        if ((long)key - last > maxKeySpread) {
+            throw new IllegalArgumentException(String.format("Key %d is more "
+                    + "than %d larger than the last extracted key %d.", key,
+                    maxKeySpread, last));
+        }
+    }
+
+    private void checkElement(int v) {
+        if (v < 0 || v >= keys.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Element %d is not an element of the queue", v));
+        }
+    }
+
+    private void checkContains(int v) {
+        checkElement(v);
+        if (!inQueue[v]) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "not in the queue.", v));
+        }
+    }
+}
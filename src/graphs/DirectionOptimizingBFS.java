@@ -0,0 +1,183 @@
+package graphs;
+
+/**
+ * Direction-optimizing BFS after Beamer, Asanovic and Patterson. A level is
+ * expanded top-down by scanning the outgoing edges of the frontier, or
+ * bottom-up by letting every unvisited vertex scan its incoming edges until
+ * it finds a parent in the frontier. Bottom-up steps pay off in the middle
+ * levels of low-diameter graphs, where the frontier is large and most edges
+ * of the frontier lead to visited vertices. The search switches to bottom-up
+ * when the frontier has more than 1 / ALPHA of the incoming edges of the
+ * unvisited vertices, and back to top-down when the frontier shrinks below
+ * 1 / BETA of the vertices. In bottom-up steps the frontier and the visited
+ * vertices are bitmaps, so an unvisited vertex tests its in-neighbors with
+ * one bit lookup each
+ * @author N.C.M. van Nistelrooij
+ */
+final class DirectionOptimizingBFS {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private final AdjacencyGraph G;
+    private final AdjacencyGraph GT;
+    private final int nrVertices;
+    private final int[] ds;
+    private final int[] parents;
+    private final long[] visited;
+    private long[] frontierBits;
+    private long[] nextBits;
+    private int[] frontier;
+    private int[] next;
+    private int frontierSize;
+    private long frontierEdges;
+    private long unvisitedEdges;
+
+    /**
+     * Initializes direction-optimizing BFS on G
+     * @param G the input graph
+     * @param GT the transpose of G
+     */
+    DirectionOptimizingBFS(AdjacencyGraph G, AdjacencyGraph GT) {
+        this.G = G;
+        this.GT = GT;
+        nrVertices = G.getNrVertices();
+        ds = new int[nrVertices];
+        parents = new int[nrVertices];
+        int nrWords = (nrVertices + 63) >>> 6;
+        visited = new long[nrWords];
+        frontierBits = new long[nrWords];
+        nextBits = new long[nrWords];
+        frontier = new int[nrVertices];
+        next = new int[nrVertices];
+    }
+
+    /**
+     * Runs the BFS from s
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    int[][] run(int s) {
+        for (int v = 0; v < nrVertices; v++) {
+            ds[v] = Integer.MAX_VALUE;
+            parents[v] = -1;
+        }
+        unvisitedEdges = G.getNrEdges();
+        frontierEdges = 0;
+        frontierSize = 0;
+        visit(s, 0, -1);
+        frontier[frontierSize++] = s;
+
+        boolean bottomUp = false;
+        for (int d = 1; frontierSize > 0; d++) {
+            int previousSize = frontierSize;
+            if (!bottomUp && frontierEdges > unvisitedEdges / ALPHA) {
+                toBitmap();
+                bottomUp = true;
+            }
+
+            frontierEdges = 0;
+            if (bottomUp) {
+                bottomUpStep(d);
+            } else {
+                topDownStep(d);
+            }
+
+            if (bottomUp && frontierSize < nrVertices / BETA
+                    && frontierSize < previousSize) {
+                toQueue();
+                bottomUp = false;
+            }
+        }
+
+        return new int[][] {ds, parents};
+    }
+
+    private void topDownStep(int d) {
+        int size = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int u = frontier[i];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                if (!isSet(visited, v)) {
+                    visit(v, d, u);
+                    next[size++] = v;
+                }
+            }
+        }
+
+        int[] swap = frontier;
+        frontier = next;
+        next = swap;
+        frontierSize = size;
+    }
+
+    private void bottomUpStep(int d) {
+        for (int w = 0; w < nextBits.length; w++) {
+            nextBits[w] = 0;
+        }
+
+        int size = 0;
+        for (int w = 0; w < visited.length; w++) {
+            long unvisited = ~visited[w];
+            while (unvisited != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+                if (v >= nrVertices) {
+                    break;
+                }
+
+                int inDegree = GT.getOutDegree(v);
+                for (int slot = 0; slot < inDegree; slot++) {
+                    int u = GT.getTarget(v, slot);
+                    if (isSet(frontierBits, u)) {
+                        visit(v, d, u);
+                        nextBits[v >>> 6] |= 1L << v;
+                        size++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        long[] swap = frontierBits;
+        frontierBits = nextBits;
+        nextBits = swap;
+        frontierSize = size;
+    }
+
+    private void visit(int v, int d, int parent) {
+        visited[v >>> 6] |= 1L << v;
+        ds[v] = d;
+        parents[v] = parent;
+        frontierEdges += G.getOutDegree(v);
+        unvisitedEdges -= GT.getOutDegree(v);
+    }
+
+    private void toBitmap() {
+        for (int w = 0; w < frontierBits.length; w++) {
+            frontierBits[w] = 0;
+        }
+        for (int i = 0; i < frontierSize; i++) {
+            int v = frontier[i];
+            frontierBits[v >>> 6] |= 1L << v;
+        }
+    }
+
+    private void toQueue() {
+        int size = 0;
+        for (int w = 0; w < frontierBits.length; w++) {
+            long bits = frontierBits[w];
+            while (bits != 0) {
+                frontier[size++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        frontierSize = size;
+    }
+
+    private static boolean isSet(long[] bits, int v) {
+        return (bits[v >>> 6] & 1L << v) != 0;
+    }
+}
@@ -0,0 +1,154 @@
+package graphs;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Matrix of the distances between all pairs of vertices of a graph, where
+ * Integer.MAX_VALUE means that there is no path. The rows are stored
+ * consecutively in segments of at most 2 GB, either on the heap or in a
+ * memory-mapped file so that large matrices do not live on the heap. Rows
+ * can be written concurrently
+ * @author N.C.M. van Nistelrooij
+ */
+public final class DistanceMatrix {
+    private static final int MAX_SEGMENT_INTS = Integer.MAX_VALUE / 4;
+
+    private final int nrVertices;
+    private final int rowsPerSegment;
+    private final IntBuffer[] segments;
+
+    /**
+     * Initializes a matrix on the heap for a graph with nrVertices vertices,
+     * in which all distances are Integer.MAX_VALUE
+     * @param nrVertices number of vertices
+     */
+    public DistanceMatrix(int nrVertices) {
+        checkNrVertices(nrVertices);
+
+        this.nrVertices = nrVertices;
+        rowsPerSegment = getRowsPerSegment(nrVertices);
+        segments = new IntBuffer[getNrSegments()];
+        for (int i = 0; i < segments.length; i++) {
+            int[] segment = new int[getSegmentRows(i) * nrVertices];
+            for (int j = 0; j < segment.length; j++) {
+                segment[j] = Integer.MAX_VALUE;
+            }
+            segments[i] = IntBuffer.wrap(segment);
+        }
+    }
+
+    /**
+     * Initializes a matrix for a graph with nrVertices vertices that is
+     * mapped to file, which is created or overwritten. All distances are
+     * Integer.MAX_VALUE
+     * @param nrVertices number of vertices
+     * @param file the file that holds the matrix
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public DistanceMatrix(int nrVertices, Path file) throws IOException {
+        checkNrVertices(nrVertices);
+
+        this.nrVertices = nrVertices;
+        rowsPerSegment = getRowsPerSegment(nrVertices);
+        segments = new IntBuffer[getNrSegments()];
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (int i = 0; i < segments.length; i++) {
+                long size = (long)getSegmentRows(i) * nrVertices
+                        * Integer.BYTES;
+                IntBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                        position, size).order(ByteOrder.nativeOrder())
+                        .asIntBuffer();
+                while (segment.hasRemaining()) {
+                    segment.put(Integer.MAX_VALUE);
+                }
+                segments[i] = segment;
+                position += size;
+            }
+        }
+    }
+
+    /**
+     * Gets number of vertices
+     * @return number of vertices
+     */
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Gets the distance from vertex u to vertex v
+     * @param u the source vertex
+     * @param v the target vertex
+     * @return the distance from u to v, or Integer.MAX_VALUE if v cannot be
+     * reached from u
+     */
+    public int getDistance(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return segments[u / rowsPerSegment].get(getOffset(u) + v);
+    }
+
+    /**
+     * Gets the distances from vertex u to all vertices
+     * @param u the source vertex
+     * @return the distance array of u
+     */
+    public int[] getRow(int u) {
+        checkVertex(u);
+        int[] row = new int[nrVertices];
+        IntBuffer segment = segments[u / rowsPerSegment].duplicate();
+        segment.position(getOffset(u));
+        segment.get(row);
+        return row;
+    }
+
+    /**
+     * Sets the distances from vertex u to all vertices
+     * @param u the source vertex
+     * @param row the distance array of u
+     */
+    void setRow(int u, int[] row) {
+        IntBuffer segment = segments[u / rowsPerSegment].duplicate();
+        segment.position(getOffset(u));
+        segment.put(row);
+    }
+
+    private int getOffset(int u) {
+        return u % rowsPerSegment * nrVertices;
+    }
+
+    private int getNrSegments() {
+        return (nrVertices + rowsPerSegment - 1) / rowsPerSegment;
+    }
+
+    private int getSegmentRows(int i) {
+        return Math.min(rowsPerSegment, nrVertices - i * rowsPerSegment);
+    }
+
+    private static int getRowsPerSegment(int nrVertices) {
+        return Math.max(1, MAX_SEGMENT_INTS / Math.max(1, nrVertices));
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+
+    private static void checkNrVertices(int nrVertices) {
+        if (nrVertices < 0) {
+            throw new IllegalArgumentException("Cannot have a negative "
+                    + "number of vertices.");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from destination vertex to slot, used by Graph to
+ * look up the edges of one source vertex in constant time. Collisions are
+ * resolved by linear probing and removals shift the probe sequence back, so
+ * no tombstones are needed
+ * @author N.C.M. van Nistelrooij
+ */
+final class EdgeIndex {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] slots;
+    private int size;
+
+    EdgeIndex() {
+        keys = new int[4];
+        slots = new int[4];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Gets the slot stored for destination vertex dest
+     * @param dest destination vertex
+     * @return the slot of dest or -1 if dest is not in the index
+     */
+    int get(int dest) {
+        int mask = keys.length - 1;
+        for (int i = hash(dest) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == dest) {
+                return slots[i];
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Stores slot as the slot of destination vertex dest, replacing any slot
+     * stored before
+     * @param dest destination vertex
+     * @param slot the slot of dest
+     */
+    void put(int dest, int slot) {
+        if (2 * (size + 1) > keys.length) {
+            resize(2 * keys.length);
+        }
+
+        int mask = keys.length - 1;
+        int i = hash(dest) & mask;
+        while (keys[i] != EMPTY && keys[i] != dest) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            keys[i] = dest;
+            size++;
+        }
+        slots[i] = slot;
+    }
+
+    /**
+     * Removes destination vertex dest from the index if it is in there
+     * @param dest destination vertex
+     */
+    void remove(int dest) {
+        int mask = keys.length - 1;
+        int i = hash(dest) & mask;
+        while (keys[i] != dest) {
+            if (keys[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == EMPTY) {
+                break;
+            }
+
+            int home = hash(keys[j]) & mask;
+            boolean reachable = i <= j ? (home <= i || home > j)
+                    : (home <= i && home > j);
+            if (reachable) {
+                keys[i] = keys[j];
+                slots[i] = slots[j];
+                i = j;
+            }
+        }
+        keys[i] = EMPTY;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldSlots = slots;
+        keys = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,237 @@
+package graphs;
+
+import java.util.stream.IntStream;
+
+/**
+ * Distances between all pairs of vertices of a dense graph computed by the
+ * blocked Floyd-Warshall algorithm. The distance matrix is padded to a
+ * multiple of the block size and stored block by block in one array, so
+ * that every block fits in the cache. For every block on the diagonal the
+ * algorithm first runs Floyd-Warshall on that block, then updates the
+ * blocks in its row and column and finally all other blocks, where the
+ * blocks of the last two phases are updated in parallel on the common
+ * ForkJoinPool. Optionally a next-hop matrix is kept for path
+ * reconstruction
+ * @author N.C.M. van Nistelrooij
+ */
+public final class FloydWarshall {
+    private static final int BLOCK_SIZE = 64;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int nrVertices;
+    private final int nrBlocks;
+    private final int[] dists;
+    private final int[] nexts;
+    private final boolean negativeCycle;
+
+    /**
+     * Computes the distances between all pairs of vertices of G without the
+     * next-hop matrix
+     * @param G the input graph
+     */
+    public FloydWarshall(AdjacencyGraph G) {
+        this(G, false);
+    }
+
+    /**
+     * Computes the distances between all pairs of vertices of G
+     * @param G the input graph
+     * @param paths whether or not to keep the next-hop matrix, which doubles
+     * the memory use and is needed for getPath
+     */
+    public FloydWarshall(AdjacencyGraph G, boolean paths) {
+        Graphs.checkNrEdgeVariables(G, 1);
+
+        nrVertices = G.getNrVertices();
+        nrBlocks = (nrVertices + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int size = nrBlocks * BLOCK_SIZE;
+        if ((long)size * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("The input graph "
+                    + "has %d vertices, which is too many for a distance "
+                    + "matrix", nrVertices));
+        }
+        dists = new int[size * size];
+        nexts = paths ? new int[size * size] : null;
+        for (int i = 0; i < dists.length; i++) {
+            dists[i] = INFINITY;
+        }
+        for (int u = 0; u < size; u++) {
+            set(u, u, 0, u);
+        }
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                int w = G.getWeight(u, slot);
+                if (w < dists[getIndex(u, v)]) {
+                    set(u, v, w, v);
+                }
+            }
+        }
+
+        for (int kb = 0; kb < nrBlocks; kb++) {
+            int k = kb;
+            int diagonal = getBlock(k, k);
+            updateBlock(diagonal, diagonal, diagonal);
+
+            IntStream.range(0, 2 * nrBlocks).parallel().forEach(i -> {
+                int b = i / 2;
+                if (b == k) {
+                    return;
+                }
+                if (i % 2 == 0) {
+                    updateBlock(getBlock(k, b), diagonal, getBlock(k, b));
+                } else {
+                    updateBlock(getBlock(b, k), getBlock(b, k), diagonal);
+                }
+            });
+
+            IntStream.range(0, nrBlocks * nrBlocks).parallel().forEach(i -> {
+                int ib = i / nrBlocks;
+                int jb = i % nrBlocks;
+                if (ib != k && jb != k) {
+                    updateBlock(getBlock(ib, jb), getBlock(ib, k),
+                            getBlock(k, jb));
+                }
+            });
+        }
+
+        boolean cycle = false;
+        for (int u = 0; u < nrVertices; u++) {
+            cycle |= dists[getIndex(u, u)] < 0;
+        }
+        negativeCycle = cycle;
+    }
+
+    /**
+     * Gets number of vertices
+     * @return number of vertices
+     */
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Return whether the graph has a negative-weight cycle, in which case the
+     * distances and paths are meaningless
+     * @return Whether or not there is a negative-weight cycle
+     */
+    public boolean hasNegativeCycle() {
+        return negativeCycle;
+    }
+
+    /**
+     * Gets the distance from vertex u to vertex v
+     * @param u the source vertex
+     * @param v the target vertex
+     * @return the distance from u to v, or Integer.MAX_VALUE if v cannot be
+     * reached from u
+     */
+    public int getDistance(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return dists[getIndex(u, v)];
+    }
+
+    /**
+     * Gets the distances from vertex u to all vertices
+     * @param u the source vertex
+     * @return the distance array of u
+     */
+    public int[] getRow(int u) {
+        checkVertex(u);
+        int[] row = new int[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            row[v] = dists[getIndex(u, v)];
+        }
+        return row;
+    }
+
+    /**
+     * Gets a shortest path from vertex u to vertex v by following the
+     * next-hop matrix
+     * @param u the source vertex
+     * @param v the target vertex
+     * @return the array of vertices on a shortest path from u to v, which is
+     * empty if v cannot be reached from u
+     */
+    public int[] getPath(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        if (nexts == null) {
+            throw new IllegalStateException("The next-hop matrix was not "
+                    + "computed");
+        }
+        if (negativeCycle) {
+            throw new IllegalStateException("The graph has a negative-weight "
+                    + "cycle");
+        }
+        if (dists[getIndex(u, v)] == INFINITY) {
+            return new int[0];
+        }
+
+        int length = 1;
+        for (int x = u; x != v; x = nexts[getIndex(x, v)]) {
+            length++;
+        }
+        int[] path = new int[length];
+        path[0] = u;
+        for (int i = 1; i < length; i++) {
+            path[i] = nexts[getIndex(path[i - 1], v)];
+        }
+        return path;
+    }
+
+    private void updateBlock(int c, int a, int b) {
+        for (int k = 0; k < BLOCK_SIZE; k++) {
+            int bRow = b + k * BLOCK_SIZE;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                int aik = a + i * BLOCK_SIZE + k;
+                int dik = dists[aik];
+                if (dik == INFINITY) {
+                    continue;
+                }
+
+                int cRow = c + i * BLOCK_SIZE;
+                for (int j = 0; j < BLOCK_SIZE; j++) {
+                    int dkj = dists[bRow + j];
+                    if (dkj == INFINITY) {
+                        continue;
+                    }
+
+                    long d = (long)dik + dkj;
+                    if (d < dists[cRow + j]) {
+                        dists[cRow + j] = (int)d;
+                        if (nexts != null) {
+                            nexts[cRow + j] = nexts[aik];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void set(int u, int v, int d, int next) {
+        int i = getIndex(u, v);
+        dists[i] = d;
+        if (nexts != null) {
+            nexts[i] = next;
+        }
+    }
+
+    private int getBlock(int ib, int jb) {
+        return (ib * nrBlocks + jb) * BLOCK_SIZE * BLOCK_SIZE;
+    }
+
+    private int getIndex(int u, int v) {
+        return getBlock(u / BLOCK_SIZE, v / BLOCK_SIZE)
+                + u % BLOCK_SIZE * BLOCK_SIZE + v % BLOCK_SIZE;
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+}
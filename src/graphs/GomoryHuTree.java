@@ -0,0 +1,218 @@
+package graphs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Tree on the vertices of an undirected graph with positive edge capacities
+ * in which the value of a minimum cut between any two vertices is the
+ * smallest cut value on the tree path between them. The tree is built by
+ * Gusfield's algorithm, which computes a minimum cut between every vertex
+ * v > 0 and its current tree parent and then moves the later vertices on
+ * the side of v below v. The minimum cuts are computed by the first phase of
+ * push-relabel in batches on the common ForkJoinPool. A cut whose tree
+ * parent was changed by an earlier cut of the same batch is computed again
+ * in the next batch, so the tree is the same as that of the sequential
+ * algorithm. Queries go up the tree by binary lifting in O(log V) time
+ * @author N.C.M. van Nistelrooij
+ */
+public final class GomoryHuTree {
+    private final int nrVertices;
+    private final int[] parents;
+    private final long[] cutValues;
+    private final int[] depths;
+    private final int[][] ancestors;
+    private final long[][] minCutValues;
+
+    /**
+     * Computes the Gomory-Hu tree of G, where every edge (u, v) with capacity
+     * c is an undirected edge between u and v with capacity c
+     * @param G the input graph with only positive capacities specified
+     */
+    public GomoryHuTree(AdjacencyGraph G) {
+        Graphs.checkNrEdgeVariables(G, 1);
+        Graphs.checkNonPositiveEdgeWeights(G);
+
+        nrVertices = G.getNrVertices();
+        parents = new int[nrVertices];
+        cutValues = new long[nrVertices];
+        if (nrVertices > 0) {
+            parents[0] = -1;
+        }
+
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        for (int e = 0; e < Gf.edgeArcs.length; e++) {
+            Gf.caps[Gf.reverses[Gf.edgeArcs[e]]] = Gf.capacities[e];
+        }
+
+        int batchSize = ForkJoinPool.getCommonPoolParallelism();
+        long[] values = new long[batchSize];
+        boolean[][] sourceSides = new boolean[batchSize][];
+        int[] batchParents = new int[batchSize];
+        int first = 1;
+        while (first < nrVertices) {
+            int start = first;
+            int size = Math.min(batchSize, nrVertices - start);
+            for (int i = 0; i < size; i++) {
+                batchParents[i] = parents[start + i];
+            }
+            IntStream.range(0, size).parallel().forEach(i -> {
+                ResidualNetwork Gi = new ResidualNetwork(Gf);
+                values[i] = new PushRelabel(Gi, start + i, batchParents[i])
+                        .computeMinCutValue();
+                sourceSides[i] = getSourceSide(Gi, batchParents[i]);
+            });
+
+            for (int i = 0; i < size; i++) {
+                int s = start + i;
+                int t = batchParents[i];
+                if (parents[s] != t) {
+                    break;
+                }
+
+                cutValues[s] = values[i];
+                for (int v = s + 1; v < nrVertices; v++) {
+                    if (parents[v] == t && sourceSides[i][v]) {
+                        parents[v] = s;
+                    }
+                }
+                first++;
+            }
+        }
+
+        int log = 1;
+        while ((1 << log) < nrVertices) {
+            log++;
+        }
+        depths = new int[nrVertices];
+        ancestors = new int[log][nrVertices];
+        minCutValues = new long[log][nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            if (parents[v] == -1) {
+                ancestors[0][v] = v;
+                minCutValues[0][v] = Long.MAX_VALUE;
+            } else {
+                depths[v] = depths[parents[v]] + 1;
+                ancestors[0][v] = parents[v];
+                minCutValues[0][v] = cutValues[v];
+            }
+        }
+        for (int k = 1; k < log; k++) {
+            for (int v = 0; v < nrVertices; v++) {
+                int w = ancestors[k - 1][v];
+                ancestors[k][v] = ancestors[k - 1][w];
+                minCutValues[k][v] = Math.min(minCutValues[k - 1][v],
+                        minCutValues[k - 1][w]);
+            }
+        }
+    }
+
+    /**
+     * Gets number of vertices
+     * @return number of vertices
+     */
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Gets the parent of vertex v in the tree, which is rooted at vertex 0
+     * @param v the vertex
+     * @return the parent of v, or -1 if v is the root
+     */
+    public int getParent(int v) {
+        checkVertex(v);
+        return parents[v];
+    }
+
+    /**
+     * Gets the value of the minimum cut between vertex v and its parent in
+     * the tree
+     * @param v the vertex, which cannot be the root
+     * @return the minimum cut value between v and its parent
+     */
+    public long getParentCutValue(int v) {
+        checkVertex(v);
+        if (parents[v] == -1) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is the root of the tree", v));
+        }
+        return cutValues[v];
+    }
+
+    /**
+     * Gets the value of a minimum cut between vertex u and vertex v, which
+     * equals the value of a maximum flow between them
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the minimum cut value between u and v
+     */
+    public long getMinCutValue(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        if (u == v) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d cannot be cut from itself", u));
+        }
+
+        if (depths[u] < depths[v]) {
+            int w = u;
+            u = v;
+            v = w;
+        }
+        long minCutValue = Long.MAX_VALUE;
+        int difference = depths[u] - depths[v];
+        for (int k = 0; difference > 0; k++, difference >>= 1) {
+            if ((difference & 1) == 1) {
+                minCutValue = Math.min(minCutValue, minCutValues[k][u]);
+                u = ancestors[k][u];
+            }
+        }
+        if (u == v) {
+            return minCutValue;
+        }
+
+        for (int k = ancestors.length - 1; k >= 0; k--) {
+            if (ancestors[k][u] != ancestors[k][v]) {
+                minCutValue = Math.min(minCutValue, Math.min(
+                        minCutValues[k][u], minCutValues[k][v]));
+                u = ancestors[k][u];
+                v = ancestors[k][v];
+            }
+        }
+        return Math.min(minCutValue, Math.min(minCutValues[0][u],
+                minCutValues[0][v]));
+    }
+
+    private static boolean[] getSourceSide(ResidualNetwork Gf, int t) {
+        boolean[] sourceSide = new boolean[Gf.nrVertices];
+        for (int v = 0; v < Gf.nrVertices; v++) {
+            sourceSide[v] = true;
+        }
+
+        int[] queue = new int[Gf.nrVertices];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = t;
+        sourceSide[t] = false;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                if (sourceSide[v] && Gf.caps[Gf.reverses[a]] > 0) {
+                    sourceSide[v] = false;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return sourceSide;
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+}
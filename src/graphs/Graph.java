@@ -1,17 +1,20 @@
 package graphs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  *
  * @author N.C.M. van Nistelrooij
  */
-public class Graph {
+public class Graph extends AdjacencyGraph {
     private final int nrVertices;
     private final int nrEdgeVariables;
     private final List<int[]>[] adjLists;
+    private EdgeIndex[] edgeIndices;
+    private int nrEdges;
+    private int modCount;
 
     /**
      * Initializes graph with nrEdgeVariables edge variables and nrVertices vertices
@@ -33,7 +36,7 @@ public class Graph {
 
         adjLists = new List[nrVertices];
         for (int u = 0; u < nrVertices; u++) {
-            adjLists[u] = new LinkedList<>();
+            adjLists[u] = new ArrayList<>();
         }
     }
 
@@ -45,9 +48,39 @@ public class Graph {
         this(nrVertices, 0);
     }
 
+    /**
+     * Builds a hash index from (src, dest) to the slot of the edge, after
+     * which looking up, changing and removing an edge take constant time.
+     * With the index, removeEdge moves the last edge of the adjacency list
+     * into the slot of the removed edge, so the order of that list changes.
+     * Adjacency lists must then only be changed through the methods of Graph
+     */
+    public void indexEdges() {
+        if (edgeIndices != null) {
+            return;
+        }
+
+        edgeIndices = new EdgeIndex[nrVertices];
+        for (int u = 0; u < nrVertices; u++) {
+            List<int[]> adjList = adjLists[u];
+            for (int slot = 0; slot < adjList.size(); slot++) {
+                getEdgeIndex(u).put(adjList.get(slot)[0], slot);
+            }
+        }
+    }
+
+    /**
+     * Return whether the edges of the graph are indexed
+     * @return Whether or not indexEdges has been called
+     */
+    public boolean isEdgeIndexed() {
+        return edgeIndices != null;
+    }
+
     /**
      * Adds an edge to the graph with src as source, vars[0] as destination and
-     * vars[1:vars.length] as edge variables
+     * vars[1:vars.length] as edge variables. The graph stores a copy of vars,
+     * so changing vars afterwards does not change the edge
      * @param src source vertex
      * @param vars integer array of [destination vertex] U [edge variables]
      */
@@ -56,13 +89,19 @@ public class Graph {
         checkHasNotEdge(src, vars[0]);
         checkVertex(vars[0]);
 
-        adjLists[src].add(vars);
+        adjLists[src].add(vars.clone());
+        if (edgeIndices != null) {
+            getEdgeIndex(src).put(vars[0], adjLists[src].size() - 1);
+        }
+        nrEdges++;
+        modCount++;
     }
 
     /**
      * Change an already existing edge's variables with src as source,
      * newVars[0] as destination and newVars[1:newVars.length] as new edge
-     * variables
+     * variables. The graph stores a copy of newVars, so changing newVars
+     * afterwards does not change the edge
      * @param src source vertex
      * @param newVars integer array of
      * [destination vertex] U [new edge variables]
@@ -70,18 +109,8 @@ public class Graph {
     public void setEdgeVariables(int src, int... newVars) {
         checkNrEdgeVariables(newVars.length - 1);
 
-        List<int[]> adjList = getAdjList(src);
-        for (int i = 0; i < adjList.size(); i++) {
-            int[] oldVars = adjList.get(i);
-            if (oldVars[0] == newVars[0]) {
-                adjList.set(i, newVars);
-                return;
-            }
-        }
-
-        throw new IllegalArgumentException(String.format(
-                "Edge (%d, %d) does not exist"
-                + " in the graph", src, newVars[0]));
+        adjLists[src].set(getExistingSlot(src, newVars[0]), newVars.clone());
+        modCount++;
     }
 
     /**
@@ -96,18 +125,8 @@ public class Graph {
     public void setEdgeVariable(int src, int dest, int edgeVariableNr, int value) {
         checkEdgeVariableNr(edgeVariableNr);
 
-        List<int[]> adjList = getAdjList(src);
-        for (int i = 0; i < adjList.size(); i++) {
-            int[] vars = adjList.get(i);
-            if (vars[0] == dest) {
-                vars[edgeVariableNr] = value;
-                return;
-            }
-        }
-
-        throw new IllegalArgumentException(String.format(
-                "Edge (%d, %d) does not exist"
-                + " in the graph", src, dest));
+        adjLists[src].get(getExistingSlot(src, dest))[edgeVariableNr] = value;
+        modCount++;
     }
 
     /**
@@ -116,18 +135,22 @@ public class Graph {
      * @param dest destination vertex
      */
     public void removeEdge(int src, int dest) {
-        List<int[]> adjList = getAdjList(src);
-        for (int i = 0; i < adjList.size(); i++) {
-            int[] vars = adjList.get(i);
-            if (vars[0] == dest) {
-                adjList.remove(i);
-                return;
+        int slot = getExistingSlot(src, dest);
+
+        List<int[]> adjList = adjLists[src];
+        if (edgeIndices == null) {
+            adjList.remove(slot);
+        } else {
+            EdgeIndex edgeIndex = getEdgeIndex(src);
+            int[] last = adjList.remove(adjList.size() - 1);
+            if (last[0] != dest) {
+                adjList.set(slot, last);
+                edgeIndex.put(last[0], slot);
             }
+            edgeIndex.remove(dest);
         }
-
-        throw new IllegalArgumentException(String.format(
-                "Edge (%d, %d) does not exist"
-                + " in the graph", src, dest));
+        nrEdges--;
+        modCount++;
     }
 
     /**
@@ -136,14 +159,32 @@ public class Graph {
      * @param dest destination vertex
      * @return Whether or not (src, dest) exists in the graph
      */
+    @Override
     public boolean hasEdge(int src, int dest) {
-        for (int[] vars : getAdjList(src)) {
-            if (vars[0] == dest) {
-                return true;
+        return getSlot(src, dest) != -1;
+    }
+
+    /**
+     * Gets the slot of edge (src, dest) in the adjacency list of src
+     * @param src source vertex
+     * @param dest destination vertex
+     * @return the slot of (src, dest) or -1 if it does not exist in the graph
+     */
+    public int getSlot(int src, int dest) {
+        checkVertex(src);
+        if (edgeIndices != null) {
+            EdgeIndex edgeIndex = edgeIndices[src];
+            return edgeIndex == null ? -1 : edgeIndex.get(dest);
+        }
+
+        List<int[]> adjList = adjLists[src];
+        for (int slot = 0; slot < adjList.size(); slot++) {
+            if (adjList.get(slot)[0] == dest) {
+                return slot;
             }
         }
 
-        return false;
+        return -1;
     }
 
     /**
@@ -166,21 +207,15 @@ public class Graph {
      * @return edge variables of edge (src, dest) if it exists
      */
     public int[] getEdgeVariables(int src, int dest) {
-        for (int[] vars : getAdjList(src)) {
-            if (vars[0] == dest) {
-                return Arrays.copyOfRange(vars, 1, vars.length);
-            }
-        }
-
-        throw new IllegalArgumentException(String.format(
-                "Edge (%d, %d) does not exist"
-                + " in the graph", src, dest));
+        int[] vars = adjLists[src].get(getExistingSlot(src, dest));
+        return Arrays.copyOfRange(vars, 1, vars.length);
     }
 
     /**
      * Gets number of vertices of the graph
      * @return number of vertices
      */
+    @Override
     public int getNrVertices() {
         return nrVertices;
     }
@@ -189,12 +224,84 @@ public class Graph {
      * Gets number of edge variables of the graph
      * @return number of edge variables
      */
+    @Override
     public int getNrEdgeVariables() {
         return nrEdgeVariables;
     }
 
     /**
-     * Gets all adjacency lists of the graph
+     * Gets number of edges of the graph
+     * @return number of edges
+     */
+    @Override
+    public int getNrEdges() {
+        return nrEdges;
+    }
+
+    /**
+     * Gets number of edges leaving vertex u
+     * @param u the vertex
+     * @return out-degree of u
+     */
+    @Override
+    public int getOutDegree(int u) {
+        checkVertex(u);
+        return adjLists[u].size();
+    }
+
+    /**
+     * Gets the destination vertex of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @return destination vertex of the edge
+     */
+    @Override
+    public int getTarget(int u, int slot) {
+        return adjLists[u].get(slot)[0];
+    }
+
+    /**
+     * Gets edge variable edgeVariableNr of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @param edgeVariableNr edge variable number. Must be in [1,nrEdgeVariables]
+     * @return edge variable edgeVariableNr of the edge
+     */
+    @Override
+    public int getSlotVariable(int u, int slot, int edgeVariableNr) {
+        return adjLists[u].get(slot)[edgeVariableNr];
+    }
+
+    /**
+     * Change edge variable edgeVariableNr of the edge in slot slot of vertex u
+     * @param u source vertex
+     * @param slot slot of the edge. Must be in [0,getOutDegree(u))
+     * @param edgeVariableNr edge variable number. Must be in [1,nrEdgeVariables]
+     * @param value the new value of edge variable edgeVariableNr
+     */
+    public void setSlotVariable(int u, int slot, int edgeVariableNr,
+            int value) {
+        checkVertex(u);
+        checkEdgeVariableNr(edgeVariableNr);
+
+        adjLists[u].get(slot)[edgeVariableNr] = value;
+        modCount++;
+    }
+
+    /**
+     * Gets the number of modifications of the graph, which changes whenever
+     * an edge is added, removed or changed through the methods of Graph.
+     * Changes made directly to the adjacency lists are not counted
+     * @return the modification count
+     */
+    @Override
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Gets all adjacency lists of the graph. Changes made to the lists are not
+     * counted by getModCount and are not reflected in the edge index
      * @return adjacency lists of the graph
      */
     public List<int[]>[] getAdjLists() {
@@ -202,7 +309,9 @@ public class Graph {
     }
 
     /**
-     * Gets the adjacency list of vertex u
+     * Gets the adjacency list of vertex u. Changes made to the list or its
+     * edges are not counted by getModCount and are not reflected in the edge
+     * index
      * @param u the vertex for which the adjacency list will be returned
      * @return the adjacency list of u
      */
@@ -218,6 +327,23 @@ public class Graph {
         }
     }
 
+    private EdgeIndex getEdgeIndex(int u) {
+        if (edgeIndices[u] == null) {
+            edgeIndices[u] = new EdgeIndex();
+        }
+        return edgeIndices[u];
+    }
+
+    private int getExistingSlot(int src, int dest) {
+        int slot = getSlot(src, dest);
+        if (slot == -1) {
+            throw new IllegalArgumentException(String.format(
+                    "Edge (%d, %d) does not exist"
+                    + " in the graph", src, dest));
+        }
+        return slot;
+    }
+
     private void checkHasNotEdge(int src, int dest) {
         if (hasEdge(src, dest)) {
             throw new IllegalArgumentException(String.format("Edge (%d, %d)"
@@ -248,31 +374,6 @@ public class Graph {
         }
     }
 
-    @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder();
-        if (nrEdgeVariables == 0) {
-            for (int u = 0; u < nrVertices; u++) {
-                for (int[] vars : getAdjList(u)) {
-                    sb.append(String.format("%d - %d\n", u, vars[0]));
-                }
-            }
-        } else {
-            for (int u = 0; u < nrVertices; u++) {
-                for (int[] vars : getAdjList(u)) {
-                    sb.append(String.format("%d - %d:\t", u, vars[0]));
-                    for (int var = 1; var < nrEdgeVariables; var++) {
-                        sb.append(String.format("%d\t", vars[var]));
-                    }
-                    sb.append(String.format("%d\n", vars[nrEdgeVariables]));
-                }
-            }
-        }
-
-        sb.deleteCharAt(sb.length() - 1);
-        return sb.toString();
-    }
-
     @Override
     public boolean equals(Object o) {
         if (o instanceof Graph) {
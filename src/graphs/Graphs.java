@@ -1,15 +1,22 @@
 package graphs;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 /**
  *
  * @author N.C.M. van Nistelrooij
  */
 public class Graphs {
+    private static final int DIAL_MAX_WEIGHT = 256;
+    private static final int BELLMAN_FORD_CHUNK_SIZE = 4096;
+    private static final int BFS_CHUNK_SIZE = 256;
+    private static final int POSITIVE_EDGE_WEIGHTS = 1;
+
     private static enum Color {
         WHITE, GRAY, BLACK
     };
@@ -22,7 +29,7 @@ public class Graphs {
      * @return output, where output[0] is the distance array and output[1] is the
      * parent array
      */
-    public static int[][] BFS(Graph G, int s) {
+    public static int[][] BFS(AdjacencyGraph G, int s) {
         checkVertex(G, s);
         int nrVertices = G.getNrVertices();
         Color[] colors = new Color[nrVertices];
@@ -37,17 +44,20 @@ public class Graphs {
         colors[s] = Color.GRAY;
         ds[s] = 0;
 
-        Queue<Integer> Q = new LinkedList<>();
-        Q.add(s);
-        while (!Q.isEmpty()) {
-            int u = Q.remove();
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
+        int[] Q = new int[nrVertices];
+        int head = 0;
+        int tail = 0;
+        Q[tail++] = s;
+        while (head < tail) {
+            int u = Q[head++];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
                 if (colors[v] == Color.WHITE) {
                     colors[v] = Color.GRAY;
                     ds[v] = ds[u] + 1;
                     parents[v] = u;
-                    Q.add(v);
+                    Q[tail++] = v;
                 }
             }
             colors[u] = Color.BLACK;
@@ -56,6 +66,120 @@ public class Graphs {
         return new int[][]{ds, parents};
     }
 
+    /**
+     * Parallel level-synchronous BFS run on G from vertex s. Every level is
+     * expanded in chunks of the frontier on the common ForkJoinPool. The
+     * edge from the frontier vertex at position i in slot slot gives the key
+     * (i, slot), and a vertex is claimed by lowering its key with
+     * compare-and-set, so it ends up with the key of the first edge to it in
+     * the order of the queue of BFS. The vertices a chunk claims first go to
+     * a buffer of that chunk, and the buffers are concatenated and sorted by
+     * key into the next frontier. So the frontier is in the same order as the
+     * queue of BFS, and the distances and parents are the same as those of
+     * BFS
+     * @param G the input graph
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is the
+     * parent array
+     */
+    public static int[][] parallelBFS(AdjacencyGraph G, int s) {
+        checkVertex(G, s);
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+        AtomicLongArray keys = new AtomicLongArray(nrVertices);
+        for (int u = 0; u < nrVertices; u++) {
+            ds[u] = Integer.MAX_VALUE;
+            parents[u] = -1;
+            keys.set(u, Long.MAX_VALUE);
+        }
+        ds[s] = 0;
+        keys.set(s, -1);
+
+        int[] frontier = {s};
+        for (int d = 1; frontier.length > 0; d++) {
+            int[] current = frontier;
+            int nrChunks = (current.length + BFS_CHUNK_SIZE - 1)
+                    / BFS_CHUNK_SIZE;
+            int[][] buffers = IntStream.range(0, nrChunks).parallel()
+                    .mapToObj(chunk -> expandBFSChunk(G, chunk, current, keys))
+                    .toArray(int[][]::new);
+
+            int size = 0;
+            for (int[] buffer : buffers) {
+                size += buffer.length;
+            }
+            long[] claims = new long[size];
+            for (int[] buffer : buffers) {
+                for (int v : buffer) {
+                    claims[--size] = keys.get(v);
+                }
+            }
+            Arrays.parallelSort(claims);
+
+            int level = d;
+            frontier = new int[claims.length];
+            int[] next = frontier;
+            IntStream.range(0, claims.length).parallel().forEach(j -> {
+                int u = current[(int)(claims[j] >>> 32)];
+                int v = G.getTarget(u, (int)claims[j]);
+                next[j] = v;
+                ds[v] = level;
+                parents[v] = u;
+                keys.set(v, -1);
+            });
+        }
+
+        return new int[][]{ds, parents};
+    }
+
+    private static int[] expandBFSChunk(AdjacencyGraph G, int chunk,
+            int[] frontier, AtomicLongArray keys) {
+        int[] buffer = new int[16];
+        int size = 0;
+        int from = chunk * BFS_CHUNK_SIZE;
+        int to = Math.min(frontier.length, from + BFS_CHUNK_SIZE);
+        for (int i = from; i < to; i++) {
+            int u = frontier[i];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                long key = (long)i << 32 | slot;
+                long old = keys.get(v);
+                while (key < old && !keys.compareAndSet(v, old, key)) {
+                    old = keys.get(v);
+                }
+                if (old == Long.MAX_VALUE) {
+                    if (size == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, 2 * size);
+                    }
+                    buffer[size++] = v;
+                }
+            }
+        }
+
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Direction-optimizing BFS run on G from vertex s, which expands large
+     * frontiers bottom-up over the incoming edges in GT and small frontiers
+     * top-down. Outputs the same distances as BFS and a breadth-first tree,
+     * in much less time on graphs with a small diameter
+     * @param G the input graph
+     * @param GT the transpose of G, for example computed by transpose
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is the
+     * parent array
+     */
+    public static int[][] directionOptimizingBFS(AdjacencyGraph G,
+            AdjacencyGraph GT, int s) {
+        checkVertex(G, s);
+        checkTranspose(G, GT);
+
+        return new DirectionOptimizingBFS(G, GT).run(s);
+    }
+
     /**
      * DFS run on G and outputs the discovery times, the finishing times and all
      * the parents in the depth-first tree
@@ -63,7 +187,7 @@ public class Graphs {
      * @return output, where output[0] is the discovery time array, output[1] is
      * the finishing time array and output[2] is the parent array
      */
-    public static int[][] DFS(Graph G) {
+    public static int[][] DFS(AdjacencyGraph G) {
         int nrVertices = G.getNrVertices();
         Color[] colors = new Color[nrVertices];
         int[] ds = new int[nrVertices];
@@ -84,13 +208,14 @@ public class Graphs {
         return new int[][]{ds, fs, parents};
     }
 
-    private static void DFSVisit(Graph G, int u, Color[] colors, int[] ds,
-            int[] fs, int[] parents, int[] time) {
+    private static void DFSVisit(AdjacencyGraph G, int u, Color[] colors,
+            int[] ds, int[] fs, int[] parents, int[] time) {
         time[0]++;
         ds[u] = time[0];
         colors[u] = Color.GRAY;
-        for (int[] vars : G.getAdjList(u)) {
-            int v = vars[0];
+        int outDegree = G.getOutDegree(u);
+        for (int slot = 0; slot < outDegree; slot++) {
+            int v = G.getTarget(u, slot);
             if (colors[v] == Color.WHITE) {
                 parents[v] = u;
                 DFSVisit(G, v, colors, ds, fs, parents, time);
@@ -112,27 +237,31 @@ public class Graphs {
      * there is no negative-weight cycle and if output[1] == 1 there is
      * a negative-weight cycle. output[2] is the parent array
      */
-    public static int[][] BellmanFord(Graph G, int s) {
+    public static int[][] BellmanFord(AdjacencyGraph G, int s) {
         checkNrEdgeVariables(G, 1);
         int nrVertices = G.getNrVertices();
         int[] ds = new int[nrVertices];
         int[] parents = new int[nrVertices];
 
         InitializeSingleSource(G, s, ds, parents);
-        for (int i = 0; i < nrVertices - 1; i++) {
+        boolean changed = true;
+        for (int i = 0; i < nrVertices - 1 && changed; i++) {
+            changed = false;
             for (int u = 0; u < nrVertices; u++) {
-                for (int[] vars : G.getAdjList(u)) {
-                    int v = vars[0];
-                    int w = vars[1];
-                    RelaxBellmanFord(u, v, w, ds, parents);
+                int outDegree = G.getOutDegree(u);
+                for (int slot = 0; slot < outDegree; slot++) {
+                    int v = G.getTarget(u, slot);
+                    int w = G.getWeight(u, slot);
+                    changed |= RelaxBellmanFord(u, v, w, ds, parents);
                 }
             }
         }
         for (int u = 0; u < nrVertices; u++) {
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
-                int w = vars[1];
-                if (ds[v] > ds[u] + w) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                int w = G.getWeight(u, slot);
+                if (ds[u] != Integer.MAX_VALUE && ds[v] > ds[u] + w) {
                     return new int[][]{ds, {1}, parents};
                 }
             }
@@ -140,12 +269,180 @@ public class Graphs {
         return new int[][]{ds, {0}, parents};
     }
 
-    private static void RelaxBellmanFord(int u, int v, int w, int[] ds,
+    private static boolean RelaxBellmanFord(int u, int v, int w, int[] ds,
             int[] parents) {
-        if (ds[v] > ds[u] + w) {
+        if (ds[u] != Integer.MAX_VALUE && ds[v] > ds[u] + w) {
             ds[v] = ds[u] + w;
             parents[v] = u;
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * Parallel Bellman-Ford run on G from vertex s. Every round relaxes all
+     * edges, which are split in chunks that are relaxed in parallel on the
+     * common ForkJoinPool, and reads the distances that other chunks lowered
+     * earlier in the same round. The rounds stop as soon as one of them
+     * changes no distance. If there is no negative-weight cycle, the
+     * distances are the same as those of Bellman-Ford, but the parents may
+     * differ when there are several shortest paths, because a chunk can read
+     * a distance that another chunk lowered earlier in the same round. They
+     * still form a shortest-path tree. Whether there is a negative-weight
+     * cycle is the same as for Bellman-Ford
+     * @param G the input graph
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array, output[1] tells
+     * whether there is a negative-weight cycle; if output[1] == 0,
+     * there is no negative-weight cycle and if output[1] == 1 there is
+     * a negative-weight cycle. output[2] is the parent array
+     */
+    public static int[][] parallelBellmanFord(AdjacencyGraph G, int s) {
+        checkNrEdgeVariables(G, 1);
+        checkVertex(G, s);
+        int nrVertices = G.getNrVertices();
+        int nrEdges = G.getNrEdges();
+        int[] sources = new int[nrEdges];
+        int[] targets = new int[nrEdges];
+        int[] weights = new int[nrEdges];
+        for (int u = 0, e = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++, e++) {
+                sources[e] = u;
+                targets[e] = G.getTarget(u, slot);
+                weights[e] = G.getWeight(u, slot);
+            }
+        }
+
+        AtomicDistances dists = new AtomicDistances(nrVertices, s);
+        int nrChunks = (nrEdges + BELLMAN_FORD_CHUNK_SIZE - 1)
+                / BELLMAN_FORD_CHUNK_SIZE;
+        boolean changed = true;
+        for (int i = 0; i < nrVertices - 1 && changed; i++) {
+            changed = IntStream.range(0, nrChunks).parallel()
+                    .map(chunk -> RelaxBellmanFordChunk(chunk, sources,
+                            targets, weights, dists) ? 1 : 0)
+                    .sum() > 0;
+        }
+
+        int[][] output = dists.toArrays();
+        int[] ds = output[0];
+        for (int e = 0; e < nrEdges; e++) {
+            int u = sources[e];
+            if (ds[u] != Integer.MAX_VALUE
+                    && ds[targets[e]] > ds[u] + weights[e]) {
+                return new int[][]{ds, {1}, output[1]};
+            }
+        }
+        return new int[][]{ds, {0}, output[1]};
+    }
+
+    private static boolean RelaxBellmanFordChunk(int chunk, int[] sources,
+            int[] targets, int[] weights, AtomicDistances dists) {
+        boolean changed = false;
+        int from = chunk * BELLMAN_FORD_CHUNK_SIZE;
+        int to = Math.min(sources.length, from + BELLMAN_FORD_CHUNK_SIZE);
+        for (int e = from; e < to; e++) {
+            int u = sources[e];
+            int du = dists.getDist(u);
+            if (du != Integer.MAX_VALUE) {
+                changed |= dists.relax(u, targets[e], du + weights[e]);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Queue-based Bellman-Ford run on G from vertex s, which only relaxes the
+     * out-edges of vertices whose distance changed since they were last
+     * scanned. After every nrVertices relaxations the parent graph is
+     * checked for a cycle, which exists only if there is a negative-weight
+     * cycle and which exists eventually if there is one reachable from s
+     * @param G the input graph
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array, output[1] tells
+     * whether there is a negative-weight cycle; if output[1] == 0,
+     * there is no negative-weight cycle and if output[1] == 1 there is
+     * a negative-weight cycle. output[2] is the parent array and output[3]
+     * is the array of vertices on the negative-weight cycle in order of the
+     * edges, which is empty if there is none
+     */
+    public static int[][] BellmanFordQueue(AdjacencyGraph G, int s) {
+        checkNrEdgeVariables(G, 1);
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+
+        InitializeSingleSource(G, s, ds, parents);
+
+        int[] queue = new int[nrVertices];
+        boolean[] inQueue = new boolean[nrVertices];
+        int head = 0;
+        int size = 1;
+        queue[0] = s;
+        inQueue[s] = true;
+        int nrRelaxations = 0;
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % nrVertices;
+            size--;
+            inQueue[u] = false;
+
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                int w = G.getWeight(u, slot);
+                if (!RelaxBellmanFord(u, v, w, ds, parents)) {
+                    continue;
+                }
+
+                if (!inQueue[v]) {
+                    queue[(head + size) % nrVertices] = v;
+                    size++;
+                    inQueue[v] = true;
+                }
+                if (++nrRelaxations % nrVertices == 0) {
+                    int[] cycle = getParentCycle(parents);
+                    if (cycle.length > 0) {
+                        return new int[][]{ds, {1}, parents, cycle};
+                    }
+                }
+            }
+        }
+        return new int[][]{ds, {0}, parents, {}};
+    }
+
+    private static int[] getParentCycle(int[] parents) {
+        int nrVertices = parents.length;
+        int[] walks = new int[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            walks[v] = -1;
+        }
+
+        for (int v = 0; v < nrVertices; v++) {
+            int u = v;
+            while (u != -1 && walks[u] == -1) {
+                walks[u] = v;
+                u = parents[u];
+            }
+            if (u == -1 || walks[u] != v) {
+                continue;
+            }
+
+            int length = 1;
+            for (int x = parents[u]; x != u; x = parents[x]) {
+                length++;
+            }
+            int[] cycle = new int[length];
+            int x = u;
+            for (int i = length - 1; i >= 0; i--) {
+                cycle[i] = x;
+                x = parents[x];
+            }
+            return cycle;
+        }
+
+        return new int[0];
     }
 
     /**
@@ -156,28 +453,158 @@ public class Graphs {
      * @return output, where output[0] is the distance array and output[1] is
      * the parent array
      */
-    public static int[][] Dijkstra(Graph G, int s) {
+    public static int[][] Dijkstra(AdjacencyGraph G, int s) {
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
+
+        return Dijkstra(G, s, new IndexedDaryHeap(G.getNrVertices()));
+    }
+
+    /**
+     * Dijkstra's run on G from vertex s with a monotone integer priority
+     * queue instead of a heap. If the maximum edge weight is small, Dial's
+     * bucket queue is used and otherwise a radix heap
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    public static int[][] bucketDijkstra(AdjacencyGraph G, int s) {
         checkNrEdgeVariables(G, 1);
         checkNonPositiveEdgeWeights(G);
+
         int nrVertices = G.getNrVertices();
-        int[] ds = new int[nrVertices];
-        int[] parents = new int[nrVertices];
+        int maxWeight = getMaxEdgeWeight(G);
+        IntPriorityQueue Q = maxWeight <= DIAL_MAX_WEIGHT
+                ? new DialQueue(nrVertices, maxWeight)
+                : new RadixHeap(nrVertices);
+        return Dijkstra(G, s, Q);
+    }
 
-        InitializeSingleSource(G, s, ds, parents);
-        List<Integer> S = new LinkedList<>();
+    /**
+     * Parallel delta-stepping run on G from vertex s, with the bucket width
+     * chosen from the edge weights and degrees of G. Outputs the same
+     * distances as Dijkstra's and a shortest path tree
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    public static int[][] deltaStepping(AdjacencyGraph G, int s) {
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
+
+        return deltaStepping(G, s, DeltaStepping.getDelta(G));
+    }
+
+    /**
+     * Parallel delta-stepping run on G from vertex s with buckets of width
+     * delta. Outputs the same distances as Dijkstra's and a shortest path
+     * tree
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @param delta the bucket width, where a width of 1 settles vertices in
+     * the same order as Dijkstra's and a width larger than every distance
+     * gives the Bellman-Ford algorithm
+     * @return output, where output[0] is the distance array and output[1] is
+     * the parent array
+     */
+    public static int[][] deltaStepping(AdjacencyGraph G, int s, int delta) {
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
+        checkVertex(G, s);
+        if (delta <= 0) {
+            throw new IllegalArgumentException(String.format("The bucket "
+                    + "width must be positive, but is %d.", delta));
+        }
+
+        return new DeltaStepping(G, delta).run(s);
+    }
+
+    /**
+     * Johnson's algorithm run on G, which outputs the distances between all
+     * pairs of vertices in a distance matrix on the heap
+     * @param G the input graph without negative-weight cycles
+     * @return the distance matrix of G
+     */
+    public static DistanceMatrix Johnson(AdjacencyGraph G) {
+        checkNrEdgeVariables(G, 1);
+        DistanceMatrix D = new DistanceMatrix(G.getNrVertices());
+        Johnson(G, D);
+        return D;
+    }
+
+    /**
+     * Johnson's algorithm run on G, which writes the distances between all
+     * pairs of vertices to D. A queue-based Bellman-Ford run from a virtual
+     * source with an edge of weight 0 to every vertex gives potentials h,
+     * with which the weights w(u, v) + h(u) - h(v) are non-negative. The
+     * Dijkstra's runs from all vertices on the reweighted graph are done in
+     * parallel on the common ForkJoinPool
+     * @param G the input graph without negative-weight cycles
+     * @param D the distance matrix for the vertices of G, for example one
+     * mapped to a file
+     */
+    public static void Johnson(AdjacencyGraph G, DistanceMatrix D) {
+        checkNrEdgeVariables(G, 1);
+        int nrVertices = G.getNrVertices();
+        if (D.getNrVertices() != nrVertices) {
+            throw new IllegalArgumentException("The distance matrix does not "
+                    + "have the same number of vertices as the graph");
+        }
+
+        Graph GStar = new Graph(nrVertices + 1, 1);
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                GStar.addEdge(u, G.getTarget(u, slot), G.getWeight(u, slot));
+            }
+            GStar.addEdge(nrVertices, u, 0);
+        }
+        int[][] BellmanFordOutput = BellmanFordQueue(GStar, nrVertices);
+        if (BellmanFordOutput[1][0] == 1) {
+            throw new IllegalArgumentException("The input graph cannot have "
+                    + "negative-weight cycles");
+        }
+        int[] hs = BellmanFordOutput[0];
 
-        Queue<int[]> Q = new PriorityQueue<>(nrVertices,
-                (int[] u, int[] v) -> u[1] - v[1]);
+        Graph Gh = new Graph(nrVertices, 1);
         for (int u = 0; u < nrVertices; u++) {
-            Q.add(new int[]{u, ds[u]});
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                Gh.addEdge(u, v, G.getWeight(u, slot) + hs[u] - hs[v]);
+            }
         }
+        CSRGraph GhCSR = new CSRGraph(Gh);
+
+        IntStream.range(0, nrVertices).parallel().forEach(u -> {
+            int[] ds = Dijkstra(GhCSR, u,
+                    new IndexedDaryHeap(nrVertices))[0];
+            for (int v = 0; v < nrVertices; v++) {
+                if (ds[v] != Integer.MAX_VALUE) {
+                    ds[v] = ds[v] - hs[u] + hs[v];
+                }
+            }
+            D.setRow(u, ds);
+        });
+    }
+
+    private static int[][] Dijkstra(AdjacencyGraph G, int s,
+            IntPriorityQueue Q) {
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+
+        InitializeSingleSource(G, s, ds, parents);
 
+        Q.insert(s, 0);
         while (!Q.isEmpty()) {
-            int u = Q.remove()[0];
-            S.add(u);
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
-                int w = vars[1];
+            int u = Q.extractMin();
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                int w = G.getWeight(u, slot);
                 RelaxDijkstra(Q, u, v, w, ds, parents);
             }
         }
@@ -185,18 +612,22 @@ public class Graphs {
         return new int[][]{ds, parents};
     }
 
-    private static void RelaxDijkstra(Queue<int[]> Q, int u,
-            int v, int w, int[] ds, int[] parents) {
-        if (ds[v] > ds[u] + w) {
-            Q.remove(new int[]{v, ds[v]});
-            ds[v] = ds[u] + w;
-            Q.add(new int[]{v, ds[v]});
+    private static void RelaxDijkstra(IntPriorityQueue Q, int u, int v,
+            int w, int[] ds, int[] parents) {
+        long d = (long)ds[u] + w;
+        if (ds[v] > d) {
+            if (ds[v] == Integer.MAX_VALUE) {
+                Q.insert(v, (int)d);
+            } else {
+                Q.decreaseKey(v, (int)d);
+            }
+            ds[v] = (int)d;
             parents[v] = u;
         }
     }
 
-    private static void InitializeSingleSource(Graph G, int s, int[] ds,
-            int[] parents) {
+    private static void InitializeSingleSource(AdjacencyGraph G, int s,
+            int[] ds, int[] parents) {
         checkVertex(G, s);
 
         for (int u = 0; u < G.getNrVertices(); u++) {
@@ -207,88 +638,808 @@ public class Graphs {
     }
 
     /**
-     * Edmonds-Karp's run on G with source s and sink t and outputs the
-     * maximum flow graph
-     * @param G the input graph with only positive capacities specified
+     * BFS run on G from vertex s that stops as soon as vertex t is discovered
+     * and outputs the distance from s to t and a shortest path
+     * @param G the input graph
      * @param s the source vertex
-     * @param t the sink vertex
-     * @return the maximum flow graph as computed by Edmonds-Karp
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
      */
-    public static Graph EdmondsKarp(Graph G, int s, int t) {
+    public static int[][] shortestPathBFS(AdjacencyGraph G, int s, int t) {
         checkVertex(G, s);
         checkVertex(G, t);
-        checkEqualSourceAndSink(s, t);
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+
+        InitializeSingleSource(G, s, ds, parents);
+
+        int[] Q = new int[nrVertices];
+        int head = 0;
+        int tail = 0;
+        Q[tail++] = s;
+        while (head < tail && ds[t] == Integer.MAX_VALUE) {
+            int u = Q[head++];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                if (ds[v] == Integer.MAX_VALUE) {
+                    ds[v] = ds[u] + 1;
+                    parents[v] = u;
+                    Q[tail++] = v;
+                }
+            }
+        }
+
+        return new int[][]{{ds[t]}, getPathVertices(parents, s, t,
+                ds[t] != Integer.MAX_VALUE)};
+    }
+
+    /**
+     * Dijkstra's run on G from vertex s that stops as soon as vertex t is
+     * settled and outputs the distance from s to t and a shortest path
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] shortestPathDijkstra(AdjacencyGraph G, int s,
+            int t) {
         checkNrEdgeVariables(G, 1);
-        checkAntiParallelEdges(G);
         checkNonPositiveEdgeWeights(G);
+        checkVertex(G, t);
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
 
-        G = makeFlowGraph(G);
-        Graph Gf = makeResidualGraph(G);
+        InitializeSingleSource(G, s, ds, parents);
 
-        int[] parents = BFS(Gf, s)[1];
-        while (parents[t] != -1) {
-            List<int[]> p = getPath(Gf, t, parents);
-            p.remove(0);
-            int pathResidualCapacity = getPathResidualCapacity(p);
+        IndexedDaryHeap Q = new IndexedDaryHeap(nrVertices);
+        Q.insert(s, 0);
+        while (!Q.isEmpty()) {
+            int u = Q.extractMin();
+            if (u == t) {
+                break;
+            }
+
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                int w = G.getWeight(u, slot);
+                RelaxDijkstra(Q, u, v, w, ds, parents);
+            }
+        }
 
-            int u = s;
-            for (int[] vars : p) {
-                int v = vars[0];
-                augmentFlow(G, Gf, u, v, pathResidualCapacity);
+        return new int[][]{{ds[t]}, getPathVertices(parents, s, t,
+                ds[t] != Integer.MAX_VALUE)};
+    }
 
-                u = v;
+    /**
+     * Bidirectional BFS run on G between vertex s and vertex t, where the
+     * backward search runs on the transpose of G. Outputs the distance from s
+     * to t and a shortest path. Every call builds the transpose of G, which
+     * takes O(V + E) time and memory, so callers with several queries on the
+     * same graph should compute the transpose once and call
+     * bidirectionalBFS(G, GT, s, t) instead
+     * @param G the input graph
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] bidirectionalBFS(AdjacencyGraph G, int s, int t) {
+        return bidirectionalBFS(G, transpose(G), s, t);
+    }
+
+    /**
+     * Bidirectional BFS run on G between vertex s and vertex t, where the
+     * backward search runs on GT. Alternately expands one full level of the
+     * search with the smaller frontier until the searches meet. Outputs the
+     * distance from s to t and a shortest path
+     * @param G the input graph
+     * @param GT the transpose of G, for example computed by transpose
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] bidirectionalBFS(AdjacencyGraph G, AdjacencyGraph GT,
+            int s, int t) {
+        checkVertex(G, s);
+        checkVertex(G, t);
+        checkTranspose(G, GT);
+        int nrVertices = G.getNrVertices();
+        int[] dsF = new int[nrVertices];
+        int[] dsB = new int[nrVertices];
+        int[] parentsF = new int[nrVertices];
+        int[] parentsB = new int[nrVertices];
+
+        InitializeSingleSource(G, s, dsF, parentsF);
+        InitializeSingleSource(GT, t, dsB, parentsB);
+
+        int[] QF = new int[nrVertices];
+        int[] QB = new int[nrVertices];
+        int[] bounds = {0, 1, 0, 1};
+        QF[0] = s;
+        QB[0] = t;
+        int mu = s == t ? 0 : Integer.MAX_VALUE;
+        int meet = s;
+        while (mu == Integer.MAX_VALUE && bounds[0] < bounds[1]
+                && bounds[2] < bounds[3]) {
+            boolean forward = bounds[1] - bounds[0] <= bounds[3] - bounds[2];
+            AdjacencyGraph H = forward ? G : GT;
+            int[] Q = forward ? QF : QB;
+            int[] ds = forward ? dsF : dsB;
+            int[] otherDs = forward ? dsB : dsF;
+            int[] parents = forward ? parentsF : parentsB;
+            int b = forward ? 0 : 2;
+
+            int levelEnd = bounds[b + 1];
+            int tail = levelEnd;
+            for (int head = bounds[b]; head < levelEnd; head++) {
+                int u = Q[head];
+                int outDegree = H.getOutDegree(u);
+                for (int slot = 0; slot < outDegree; slot++) {
+                    int v = H.getTarget(u, slot);
+                    if (ds[v] == Integer.MAX_VALUE) {
+                        ds[v] = ds[u] + 1;
+                        parents[v] = u;
+                        Q[tail++] = v;
+                        if (otherDs[v] != Integer.MAX_VALUE
+                                && ds[v] + otherDs[v] < mu) {
+                            mu = ds[v] + otherDs[v];
+                            meet = v;
+                        }
+                    }
+                }
             }
+            bounds[b] = levelEnd;
+            bounds[b + 1] = tail;
+        }
+
+        return new int[][]{{mu}, getPathVertices(parentsF, parentsB, s, t,
+                meet, mu != Integer.MAX_VALUE)};
+    }
+
+    /**
+     * Bidirectional Dijkstra's run on G between vertex s and vertex t, where
+     * the backward search runs on the transpose of G. Outputs the distance
+     * from s to t and a shortest path. Every call builds the transpose of G,
+     * which takes O(V + E) time and memory, so callers with several queries
+     * on the same graph should compute the transpose once and call
+     * bidirectionalDijkstra(G, GT, s, t) instead
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] bidirectionalDijkstra(AdjacencyGraph G, int s,
+            int t) {
+        return bidirectionalDijkstra(G, transpose(G), s, t);
+    }
 
-            parents = BFS(Gf, s)[1];
+    /**
+     * Bidirectional Dijkstra's run on G between vertex s and vertex t, where
+     * the backward search runs on GT. Alternately settles a vertex in the
+     * search with the smaller tentative distance and stops when the two
+     * smallest tentative distances together reach the best s-t distance found
+     * so far. Outputs the distance from s to t and a shortest path
+     * @param G the input graph with only positive edge weights
+     * @param GT the transpose of G, for example computed by transpose
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] bidirectionalDijkstra(AdjacencyGraph G,
+            AdjacencyGraph GT, int s, int t) {
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
+        checkVertex(G, s);
+        checkVertex(G, t);
+        checkTranspose(G, GT);
+        int nrVertices = G.getNrVertices();
+        int[] dsF = new int[nrVertices];
+        int[] dsB = new int[nrVertices];
+        int[] parentsF = new int[nrVertices];
+        int[] parentsB = new int[nrVertices];
+
+        InitializeSingleSource(G, s, dsF, parentsF);
+        InitializeSingleSource(GT, t, dsB, parentsB);
+
+        IndexedDaryHeap QF = new IndexedDaryHeap(nrVertices);
+        IndexedDaryHeap QB = new IndexedDaryHeap(nrVertices);
+        QF.insert(s, 0);
+        QB.insert(t, 0);
+        long mu = s == t ? 0 : Integer.MAX_VALUE;
+        int meet = s;
+        while (!QF.isEmpty() && !QB.isEmpty()
+                && (long)QF.getKey(QF.peekMin())
+                + QB.getKey(QB.peekMin()) < mu) {
+            boolean forward = QF.getKey(QF.peekMin())
+                    <= QB.getKey(QB.peekMin());
+            AdjacencyGraph H = forward ? G : GT;
+            IndexedDaryHeap Q = forward ? QF : QB;
+            int[] ds = forward ? dsF : dsB;
+            int[] otherDs = forward ? dsB : dsF;
+            int[] parents = forward ? parentsF : parentsB;
+
+            int u = Q.extractMin();
+            int outDegree = H.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = H.getTarget(u, slot);
+                int w = H.getWeight(u, slot);
+                RelaxDijkstra(Q, u, v, w, ds, parents);
+                if (otherDs[v] != Integer.MAX_VALUE
+                        && (long)ds[v] + otherDs[v] < mu) {
+                    mu = (long)ds[v] + otherDs[v];
+                    meet = v;
+                }
+            }
         }
 
-        return G;
+        boolean reachable = mu < Integer.MAX_VALUE;
+        return new int[][]{{reachable ? (int)mu : Integer.MAX_VALUE},
+            getPathVertices(parentsF, parentsB, s, t, meet, reachable)};
+    }
+
+    /**
+     * A* search on G from vertex s to vertex t, which settles vertices in
+     * order of their distance from s plus heuristic h. Outputs the distance
+     * from s to t and a shortest path
+     * @param G the input graph with only positive edge weights
+     * @param s the source vertex
+     * @param t the target vertex
+     * @param h admissible heuristic, where h(v) is at most the distance from
+     * v to t
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] AStar(AdjacencyGraph G, int s, int t,
+            IntUnaryOperator h) {
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
+        checkVertex(G, t);
+        int nrVertices = G.getNrVertices();
+        int[] ds = new int[nrVertices];
+        int[] parents = new int[nrVertices];
+
+        InitializeSingleSource(G, s, ds, parents);
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(nrVertices);
+        Q.insert(s, getAStarKey(0, h.applyAsInt(s)));
+        while (!Q.isEmpty()) {
+            int u = Q.extractMin();
+            if (u == t) {
+                break;
+            }
+
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
+                long d = (long)ds[u] + G.getWeight(u, slot);
+                if (ds[v] > d) {
+                    ds[v] = (int)d;
+                    parents[v] = u;
+
+                    int key = getAStarKey(ds[v], h.applyAsInt(v));
+                    if (Q.contains(v)) {
+                        Q.decreaseKey(v, key);
+                    } else {
+                        Q.insert(v, key);
+                    }
+                }
+            }
+        }
+
+        return new int[][]{{ds[t]}, getPathVertices(parents, s, t,
+                ds[t] != Integer.MAX_VALUE)};
+    }
+
+    /**
+     * ALT search on G from vertex s to vertex t, which is A* search with the
+     * triangle inequality lower bounds of the landmarks as heuristic. Outputs
+     * the distance from s to t and a shortest path
+     * @param G the input graph with only positive edge weights
+     * @param landmarks landmarks computed for G
+     * @param s the source vertex
+     * @param t the target vertex
+     * @return output, where output[0] = {distance from s to t} and output[1]
+     * is the array of vertices on a shortest path from s to t. If t cannot be
+     * reached from s, the distance is Integer.MAX_VALUE and the path is empty
+     */
+    public static int[][] ALT(AdjacencyGraph G, Landmarks landmarks, int s,
+            int t) {
+        if (landmarks.getNrVertices() != G.getNrVertices()) {
+            throw new IllegalArgumentException("The landmarks are not "
+                    + "computed for a graph with the same number of "
+                    + "vertices");
+        }
+
+        return AStar(G, s, t, landmarks.getHeuristic(t));
+    }
+
+    private static int getAStarKey(int d, int h) {
+        return (int)Math.min((long)d + h, Integer.MAX_VALUE);
+    }
+
+    private static int[] getPathVertices(int[] parents, int s, int t,
+            boolean reachable) {
+        if (!reachable) {
+            return new int[0];
+        }
+
+        int length = 1;
+        for (int v = t; v != s; v = parents[v]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        for (int v = t, i = length - 1; i >= 0; v = parents[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+
+    private static int[] getPathVertices(int[] parentsF, int[] parentsB,
+            int s, int t, int meet, boolean reachable) {
+        if (!reachable) {
+            return new int[0];
+        }
+
+        int[] pathF = getPathVertices(parentsF, s, meet, true);
+        int[] pathB = getPathVertices(parentsB, t, meet, true);
+        int[] path = new int[pathF.length + pathB.length - 1];
+        System.arraycopy(pathF, 0, path, 0, pathF.length);
+        for (int i = 1; i < pathB.length; i++) {
+            path[pathF.length + i - 1] = pathB[pathB.length - 1 - i];
+        }
+        return path;
+    }
+
+    /**
+     * Edmonds-Karp's run on G with source s and sink t and outputs the
+     * maximum flow graph. The residual arcs of an edge are paired by arc
+     * index, so anti-parallel edges are allowed
+     * @param G the input graph with only positive capacities specified
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the maximum flow graph as computed by Edmonds-Karp
+     */
+    public static Graph EdmondsKarp(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
+
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        int[] parentArcs = new int[G.getNrVertices()];
+        while (Gf.findAugmentingPath(s, t, 1, parentArcs)) {
+            Gf.augment(s, t, parentArcs);
+        }
+
+        return Gf.toFlowGraph();
+    }
+
+    /**
+     * Dinic's run on G with source s and sink t and outputs the maximum flow
+     * graph. Every phase computes the BFS levels in the residual network and
+     * then a blocking flow in the level graph by depth-first searches that
+     * keep a current arc for every vertex, so every arc is passed over at
+     * most once per phase. Anti-parallel edges are allowed
+     * @param G the input graph with only positive capacities specified
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the maximum flow graph as computed by Dinic's
+     */
+    public static Graph Dinic(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
+
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        int nrVertices = Gf.nrVertices;
+        int[] levels = new int[nrVertices];
+        int[] queue = new int[nrVertices];
+        int[] currents = new int[nrVertices];
+        int[] path = new int[nrVertices];
+        while (DinicLevels(Gf, s, t, levels, queue)) {
+            System.arraycopy(Gf.offsets, 0, currents, 0, nrVertices);
+            DinicBlockingFlow(Gf, s, t, levels, currents, path);
+        }
+
+        return Gf.toFlowGraph();
+    }
+
+    private static boolean DinicLevels(ResidualNetwork Gf, int s, int t,
+            int[] levels, int[] queue) {
+        for (int u = 0; u < Gf.nrVertices; u++) {
+            levels[u] = -1;
+        }
+        levels[s] = 0;
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = s;
+        while (head < tail) {
+            int u = queue[head++];
+            if (levels[t] != -1 && levels[u] >= levels[t]) {
+                break;
+            }
+
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                if (Gf.caps[a] > 0 && levels[v] == -1) {
+                    levels[v] = levels[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return levels[t] != -1;
+    }
+
+    private static void DinicBlockingFlow(ResidualNetwork Gf, int s, int t,
+            int[] levels, int[] currents, int[] path) {
+        int depth = 0;
+        int u = s;
+        while (true) {
+            if (u == t) {
+                int pathResidualCapacity = Integer.MAX_VALUE;
+                for (int i = 0; i < depth; i++) {
+                    pathResidualCapacity = Math.min(pathResidualCapacity,
+                            Gf.caps[path[i]]);
+                }
+                int saturated = -1;
+                for (int i = 0; i < depth; i++) {
+                    Gf.push(path[i], pathResidualCapacity);
+                    if (saturated == -1 && Gf.caps[path[i]] == 0) {
+                        saturated = i;
+                    }
+                }
+
+                depth = saturated;
+                u = Gf.getTail(path[depth]);
+                continue;
+            }
+
+            int end = Gf.offsets[u + 1];
+            while (currents[u] < end) {
+                int a = currents[u];
+                if (Gf.caps[a] > 0 && levels[Gf.heads[a]] == levels[u] + 1) {
+                    break;
+                }
+                currents[u]++;
+            }
+
+            if (currents[u] < end) {
+                path[depth++] = currents[u];
+                u = Gf.heads[currents[u]];
+            } else if (u == s) {
+                return;
+            } else {
+                levels[u] = -1;
+                u = Gf.getTail(path[--depth]);
+                currents[u]++;
+            }
+        }
+    }
+
+    /**
+     * Highest-label push-relabel run on G with source s and sink t with the
+     * global relabeling and gap heuristics, which outputs the maximum flow
+     * graph. Anti-parallel edges are allowed
+     * @param G the input graph with only positive capacities specified
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the maximum flow graph as computed by push-relabel
+     */
+    public static Graph pushRelabel(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
+
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        PushRelabel pushRelabel = new PushRelabel(Gf, s, t);
+        pushRelabel.computeMinCutValue();
+        pushRelabel.convertToFlow();
+
+        return Gf.toFlowGraph();
+    }
+
+    /**
+     * Lock-free parallel push-relabel run on G with source s and sink t,
+     * which outputs the maximum flow graph. Anti-parallel edges are allowed
+     * @param G the input graph with only positive capacities specified
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the maximum flow graph as computed by parallel push-relabel
+     */
+    public static Graph parallelPushRelabel(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
+
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        new ParallelPushRelabel(Gf, s, t).run();
+
+        return Gf.toFlowGraph();
+    }
+
+    /**
+     * Computes the value of a minimum cut between s and t in G, which equals
+     * the value of a maximum flow, with only the first phase of
+     * push-relabel. This skips turning the maximum preflow into a flow
+     * @param G the input graph with only positive capacities specified
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the minimum cut value
+     */
+    public static long minCutValue(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
+
+        return new PushRelabel(new ResidualNetwork(G), s, t)
+                .computeMinCutValue();
     }
 
     /**
      * Capacity scaling run on G with source s and sink t and outputs the
-     * maximum flow graph
+     * maximum flow graph. The residual arcs of an edge are paired by arc
+     * index, so anti-parallel edges are allowed
      * @param G the input graph with only positive capacities specified
      * @param s the source vertex
      * @param t the sink vertex
      * @return the maximum flow graph as computed by the capacity scaling
      * algorithm
      */
-    public static Graph capacityScaling(Graph G, int s, int t) {
-        checkVertex(G, s);
-        checkVertex(G, t);
-        checkEqualSourceAndSink(s, t);
-        checkNrEdgeVariables(G, 1);
-        checkAntiParallelEdges(G);
-        checkNonPositiveEdgeWeights(G);
+    public static Graph capacityScaling(AdjacencyGraph G, int s, int t) {
+        checkFlowNetwork(G, s, t);
 
-        int delta = largestPowerOf2SmallerEqual(getMaxCapacity(G));
-        G = makeFlowGraph(G);
+        int delta = largestPowerOf2SmallerEqual(getMaxEdgeWeight(G));
+        ResidualNetwork Gf = new ResidualNetwork(G);
+        int[] parentArcs = new int[G.getNrVertices()];
 
         while(delta >= 1) {
-            Graph GfDelta = makeResidualGraph(G, delta);
+            while (Gf.findAugmentingPath(s, t, delta, parentArcs)) {
+                Gf.augment(s, t, parentArcs);
+            }
 
-            int[] parents = BFS(GfDelta, s)[1];
-            while (parents[t] != -1) {
-                List<int[]> p = getPath(GfDelta, t, parents);
-                p.remove(0);
-                int pathResidualCapacity = getPathResidualCapacity(p);
+            delta = delta / 2;
+        }
 
-                int u = s;
-                for (int[] vars : p) {
-                    int v = vars[0];
-                    augmentFlow(G, GfDelta, u, v, pathResidualCapacity);
+        return Gf.toFlowGraph();
+    }
 
-                    u = v;
+    /**
+     * Updates a maximum flow after the capacities of some edges changed,
+     * starting from the old flow instead of from zero flow. Where a capacity
+     * drops below the flow along its edge, the flow along that edge is
+     * lowered and the resulting excess and deficit are first rerouted around
+     * the edge, and what cannot be rerouted is cancelled along residual paths
+     * back to the source or sink. The repaired flow is then augmented to a
+     * maximum flow. When only a few capacities change, the work besides
+     * copying the graph is mostly limited to the neighborhoods of the
+     * changed edges
+     * @param flowGraph the flow graph of a feasible flow, with the flow as
+     * first and the capacity as second edge variable, such as the output of
+     * the max-flow methods
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @param updates the capacity updates, each of the form {u, v, c} to set
+     * the capacity of edge (u, v) to c, which are applied in order
+     * @return the maximum flow graph for the updated capacities
+     */
+    public static Graph updateMaxFlow(Graph flowGraph, int s, int t,
+            int[][] updates) {
+        checkVertex(flowGraph, s);
+        checkVertex(flowGraph, t);
+        checkEqualSourceAndSink(s, t);
+        checkNrEdgeVariables(flowGraph, 2);
+        for (int[] update : updates) {
+            checkCapacityUpdate(flowGraph, update);
+        }
+
+        int nrVertices = flowGraph.getNrVertices();
+        int[] firstEdges = new int[nrVertices];
+        for (int u = 1; u < nrVertices; u++) {
+            firstEdges[u] = firstEdges[u - 1] + flowGraph.getOutDegree(u - 1);
+        }
+
+        ResidualNetwork Gf = new ResidualNetwork(flowGraph, true);
+        int[] parentArcs = new int[nrVertices];
+        for (int[] update : updates) {
+            int u = update[0];
+            int v = update[1];
+            int e = firstEdges[u] + flowGraph.getSlot(u, v);
+            int excess = Gf.setCapacity(e, update[2]);
+            if (excess == 0 || u == v) {
+                continue;
+            }
+
+            excess -= pushFlow(Gf, u, v, excess, parentArcs);
+            int deficit = excess;
+            if (u != s && u != t) {
+                excess -= pushFlow(Gf, u, s, excess, parentArcs);
+                excess -= pushFlow(Gf, u, t, excess, parentArcs);
+            }
+            if (v != s && v != t) {
+                deficit -= pushFlow(Gf, t, v, deficit, parentArcs);
+                deficit -= pushFlow(Gf, s, v, deficit, parentArcs);
+            }
+            if ((u != s && u != t && excess > 0)
+                    || (v != s && v != t && deficit > 0)) {
+                throw new IllegalArgumentException("The flow graph does not "
+                        + "have a feasible flow");
+            }
+        }
+
+        while (Gf.findAugmentingPath(s, t, 1, parentArcs)) {
+            Gf.augment(s, t, parentArcs);
+        }
+
+        return Gf.toFlowGraph();
+    }
+
+    /**
+     * Hopcroft-Karp run on bipartite graph G, which computes a maximum
+     * matching in O(E sqrt(V)) time. The bipartition is found by 2-coloring
+     * G and the direction of the edges is ignored
+     * @param G the input graph, which must be bipartite
+     * @return the vertex every vertex is matched to, or -1 if it is not
+     * matched
+     */
+    public static int[] HopcroftKarp(AdjacencyGraph G) {
+        boolean[] left = BipartiteMatching.getBipartition(G);
+        if (left == null) {
+            throw new IllegalArgumentException("The input graph is not "
+                    + "bipartite");
+        }
+
+        return new BipartiteMatching(G, left).run();
+    }
+
+    /**
+     * Hopcroft-Karp run on G with the given bipartition, which computes a
+     * maximum matching in O(E sqrt(V)) time. The direction of the edges is
+     * ignored
+     * @param G the input graph
+     * @param left whether or not every vertex is on the left side, where
+     * every edge must go between the two sides
+     * @return the vertex every vertex is matched to, or -1 if it is not
+     * matched
+     */
+    public static int[] HopcroftKarp(AdjacencyGraph G, boolean[] left) {
+        if (left.length != G.getNrVertices()) {
+            throw new IllegalArgumentException(String.format("The "
+                    + "bipartition should have %d vertices, but has %d "
+                    + "vertices", G.getNrVertices(), left.length));
+        }
+
+        return new BipartiteMatching(G, left).run();
+    }
+
+    /**
+     * Computes the minimum cut between s and t given by a maximum flow, whose
+     * source side holds the vertices that can be reached from s in the
+     * residual graph and whose cut edges are the edges of the flow graph
+     * from the source side to the other side
+     * @param flowGraph the flow graph of a maximum flow, with the flow as
+     * first and the capacity as second edge variable, such as the output of
+     * the max-flow methods
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the source side vertices in increasing order, the tails of the
+     * cut edges and the heads of the cut edges
+     */
+    public static int[][] minCut(Graph flowGraph, int s, int t) {
+        checkVertex(flowGraph, s);
+        checkVertex(flowGraph, t);
+        checkEqualSourceAndSink(s, t);
+        checkNrEdgeVariables(flowGraph, 2);
+
+        boolean[] sourceSide = new ResidualNetwork(flowGraph, true)
+                .getReachable(s);
+        if (sourceSide[t]) {
+            throw new IllegalArgumentException("The flow graph does not have "
+                    + "a maximum flow");
+        }
+
+        int nrVertices = flowGraph.getNrVertices();
+        int nrSourceVertices = 0;
+        int nrCutEdges = 0;
+        for (int u = 0; u < nrVertices; u++) {
+            if (!sourceSide[u]) {
+                continue;
+            }
+
+            nrSourceVertices++;
+            int outDegree = flowGraph.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                if (!sourceSide[flowGraph.getTarget(u, slot)]) {
+                    nrCutEdges++;
                 }
+            }
+        }
 
-                parents = BFS(GfDelta, s)[1];
+        int[] sourceVertices = new int[nrSourceVertices];
+        int[] tails = new int[nrCutEdges];
+        int[] heads = new int[nrCutEdges];
+        for (int u = 0, i = 0, j = 0; u < nrVertices; u++) {
+            if (!sourceSide[u]) {
+                continue;
             }
 
-            delta = delta / 2;
+            sourceVertices[i++] = u;
+            int outDegree = flowGraph.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = flowGraph.getTarget(u, slot);
+                if (!sourceSide[v]) {
+                    tails[j] = u;
+                    heads[j++] = v;
+                }
+            }
+        }
+
+        return new int[][] {sourceVertices, tails, heads};
+    }
+
+    /**
+     * Computes a maximum flow of minimum cost in G from s to t by successive
+     * shortest paths with potentials
+     * @param G the input graph with positive capacities as first and costs as
+     * second edge variable, which cannot have negative-cost cycles
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @return the minimum-cost maximum flow graph, with the flow as first,
+     * the capacity as second and the cost as third edge variable
+     */
+    public static Graph minCostMaxFlow(AdjacencyGraph G, int s, int t) {
+        return minCostMaxFlow(G, s, t, false);
+    }
+
+    /**
+     * Computes a maximum flow of minimum cost in G from s to t. Successive
+     * shortest paths takes a shortest-path computation per augmenting path,
+     * so for large capacities cost scaling, whose running time does not
+     * depend on the capacities, is usually faster. Cost scaling also allows
+     * negative-cost cycles, which it saturates
+     * @param G the input graph with positive capacities as first and costs as
+     * second edge variable
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @param costScaling whether to use cost scaling instead of successive
+     * shortest paths
+     * @return the minimum-cost maximum flow graph, with the flow as first,
+     * the capacity as second and the cost as third edge variable
+     */
+    public static Graph minCostMaxFlow(AdjacencyGraph G, int s, int t,
+            boolean costScaling) {
+        checkVertex(G, s);
+        checkVertex(G, t);
+        checkEqualSourceAndSink(s, t);
+        checkNrEdgeVariables(G, 2);
+        checkNonPositiveEdgeWeights(G);
+
+        MinCostFlow minCostFlow = new MinCostFlow(G);
+        if (costScaling) {
+            minCostFlow.costScaling(s, t);
+        } else {
+            minCostFlow.successiveShortestPaths(s, t);
         }
 
-        return G;
+        return minCostFlow.toFlowGraph();
+    }
+
+    private static int pushFlow(ResidualNetwork Gf, int u, int v, int amount,
+            int[] parentArcs) {
+        int pushed = 0;
+        while (pushed < amount
+                && Gf.findAugmentingPath(u, v, 1, parentArcs)) {
+            pushed += Gf.augment(u, v, parentArcs, amount - pushed);
+        }
+
+        return pushed;
     }
     
     private static int largestPowerOf2SmallerEqual(int i) {
@@ -301,56 +1452,18 @@ public class Graphs {
         return i == powerOf2 ? i : powerOf2 / 2;
     }
 
-    private static int getMaxCapacity(Graph G) {
+    private static int getMaxEdgeWeight(AdjacencyGraph G) {
         int nrVertices = G.getNrVertices();
 
-        int maxCapacity = Integer.MIN_VALUE;
+        int maxWeight = Integer.MIN_VALUE;
         for(int u = 0; u < nrVertices; u++) {
-            for(int[] vars : G.getAdjList(u)) {
-                maxCapacity = Math.max(maxCapacity, vars[1]);
+            int outDegree = G.getOutDegree(u);
+            for(int slot = 0; slot < outDegree; slot++) {
+                maxWeight = Math.max(maxWeight, G.getWeight(u, slot));
             }
         }
 
-        return maxCapacity == Integer.MIN_VALUE ? 1 : maxCapacity;
-    }
-
-    private static void augmentFlow(Graph G, Graph Gf, int u, int v,
-            int pathResidualCapacity) {
-        if (G.hasEdge(u, v)) {
-            int[] vars = G.getEdgeVariables(u, v);
-            int oldF = vars[0];
-            int c = vars[1];
-            if (oldF == 0) {
-                Gf.addEdge(v, u, 0);
-            }
-
-            int newF = oldF + pathResidualCapacity;
-            G.setEdgeVariable(u, v, 1, newF);
-
-            if (newF == c) {
-                Gf.removeEdge(u, v);
-            } else {
-                Gf.setEdgeVariable(u, v, 1, c - newF);
-            }
-            Gf.setEdgeVariable(v, u, 1, newF);
-        } else {
-            int[] vars = G.getEdgeVariables(v, u);
-            int oldF = vars[0];
-            int c = vars[1];
-            if (oldF == c) {
-                Gf.addEdge(v, u, 0);
-            }
-
-            int newF = oldF - pathResidualCapacity;
-            G.setEdgeVariable(v, u, 1, newF);
-
-            if (newF == 0) {
-                Gf.removeEdge(u, v);
-            } else {
-                Gf.setEdgeVariable(u, v, 1, newF);
-            }
-            Gf.setEdgeVariable(v, u, 1, c - newF);
-        }
+        return maxWeight == Integer.MIN_VALUE ? 1 : maxWeight;
     }
 
     /**
@@ -389,10 +1502,9 @@ public class Graphs {
         if(recursiveCalls < G.getNrVertices()) {
             List<int[]> p = getPathRecursive(G, parents[s], parents,
                     recursiveCalls);
-            for (int[] vars : G.getAdjList(parents[s])) {
-                if (vars[0] == s) {
-                    p.add(vars);
-                }
+            int slot = G.getSlot(parents[s], s);
+            if (slot != -1) {
+                p.add(G.getAdjList(parents[s]).get(slot));
             }
             return p;
         }
@@ -405,18 +1517,19 @@ public class Graphs {
      * @param G the input graph
      * @return the transpose of the input graph
      */
-    public static Graph transpose(Graph G) {
+    public static Graph transpose(AdjacencyGraph G) {
         int nrVertices = G.getNrVertices();
         int nrEdgeVariables = G.getNrEdgeVariables();
         Graph GT = new Graph(nrVertices, nrEdgeVariables);
         for (int u = 0; u < nrVertices; u++) {
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int v = G.getTarget(u, slot);
 
                 int[] transposedVars = new int[nrEdgeVariables + 1];
                 transposedVars[0] = u;
                 for (int i = 1; i <= nrEdgeVariables; i++) {
-                    transposedVars[i] = vars[i];
+                    transposedVars[i] = G.getSlotVariable(u, slot, i);
                 }
 
                 GT.addEdge(v, transposedVars);
@@ -426,56 +1539,31 @@ public class Graphs {
         return GT;
     }
 
-    private static int getPathResidualCapacity(List<int[]> p) {
-        int pathResCap = Integer.MAX_VALUE;
-
-        for (int[] vars : p) {
-            int cf = vars[1];
-            pathResCap = Math.min(pathResCap, cf);
-        }
-
-        return pathResCap;
+    private static void checkFlowNetwork(AdjacencyGraph G, int s, int t) {
+        checkVertex(G, s);
+        checkVertex(G, t);
+        checkEqualSourceAndSink(s, t);
+        checkNrEdgeVariables(G, 1);
+        checkNonPositiveEdgeWeights(G);
     }
 
-    private static Graph makeFlowGraph(Graph G) {
-        int nrVertices = G.getNrVertices();
-        Graph GPrime = new Graph(nrVertices, 2);
-        for (int u = 0; u < nrVertices; u++) {
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
-                int c = vars[1];
-                GPrime.addEdge(u, v, 0, c);
-            }
+    private static void checkCapacityUpdate(Graph flowGraph, int[] update) {
+        if (update.length != 3) {
+            throw new IllegalArgumentException(String.format("A capacity "
+                    + "update should have 3 values, but has %d value(s)",
+                    update.length));
         }
-
-        return GPrime;
-    }
-
-    private static Graph makeResidualGraph(Graph G) {
-        return makeResidualGraph(G, 1);
-    }
-
-    private static Graph makeResidualGraph(Graph G, int delta) {
-        int nrVertices = G.getNrVertices();
-        Graph Gf = new Graph(nrVertices, 1);
-        for (int u = 0; u < nrVertices; u++) {
-            for (int[] vars : G.getAdjList(u)) {
-                int v = vars[0];
-                int f = vars[1];
-                int c = vars[2];
-
-                if(c >= delta) {
-                    if (f != 0) {
-                        Gf.addEdge(v, u, f);
-                    }
-                    if (f != c) {
-                        Gf.addEdge(u, v, c - f);
-                    }
-                }
-            }
+        checkVertex(flowGraph, update[0]);
+        checkVertex(flowGraph, update[1]);
+        if (!flowGraph.hasEdge(update[0], update[1])) {
+            throw new IllegalArgumentException(String.format(
+                    "Edge (%d, %d) does not exist in the graph", update[0],
+                    update[1]));
+        }
+        if (update[2] < 0) {
+            throw new IllegalArgumentException("Negative capacities are not "
+                    + "allowed.");
         }
-
-        return Gf;
     }
 
     private static void checkEqualSourceAndSink(int s, int t) {
@@ -485,7 +1573,7 @@ public class Graphs {
         }
     }
 
-    private static void checkVertex(Graph G, int u) {
+    static void checkVertex(AdjacencyGraph G, int u) {
         int nrVertices = G.getNrVertices();
         if (u < 0 || u >= nrVertices) {
             throw new IllegalArgumentException(String.format(
@@ -493,7 +1581,17 @@ public class Graphs {
         }
     }
 
-    private static void checkNrEdgeVariables(Graph G, int nrEdgeVariables) {
+    private static void checkTranspose(AdjacencyGraph G, AdjacencyGraph GT) {
+        if (G.getNrVertices() != GT.getNrVertices()
+                || G.getNrEdges() != GT.getNrEdges()) {
+            throw new IllegalArgumentException("The transposed graph does not "
+                    + "have the same number of vertices and edges as the "
+                    + "graph");
+        }
+    }
+
+    static void checkNrEdgeVariables(AdjacencyGraph G,
+            int nrEdgeVariables) {
         if (G.getNrEdgeVariables() != nrEdgeVariables) {
             throw new IllegalArgumentException(String.format("There should be "
                     + "%d edge variable(s), but there is/are %d edge variable(s)",
@@ -501,29 +1599,24 @@ public class Graphs {
         }
     }
 
-    private static void checkAntiParallelEdges(Graph G) {
-        int nrVertices = G.getNrVertices();
-        for (int u = 0; u < nrVertices; u++) {
-            for (int v = u + 1; v < nrVertices; v++) {
-                if (G.hasEdge(u, v) && G.hasEdge(v, u)) {
-                    throw new IllegalArgumentException("The input graph in a "
-                            + "Ford-Fulkerson method cannot have anti-parallel "
-                            + "edges");
-                }
-            }
+    static void checkNonPositiveEdgeWeights(AdjacencyGraph G) {
+        if (G.isValidated(POSITIVE_EDGE_WEIGHTS)) {
+            return;
         }
-    }
 
-    private static void checkNonPositiveEdgeWeights(Graph G) {
+        int modCount = G.getModCount();
         int nrVertices = G.getNrVertices();
         for (int u = 0; u < nrVertices; u++) {
-            for (int[] vars : G.getAdjList(u)) {
-                int w = vars[1];
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++) {
+                int w = G.getWeight(u, slot);
                 if (w <= 0) {
                     throw new IllegalArgumentException("Non-positive edge "
                             + "weights are not allowed.");
                 }
             }
         }
+
+        G.setValidated(POSITIVE_EDGE_WEIGHTS, modCount);
     }
 }
@@ -0,0 +1,223 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of the elements 0, ..., capacity - 1 with integer keys, where
+ * every node has d children. The position of every element in the heap is
+ * kept, so the key of an element can be decreased in O(log_d n) time
+ * @author N.C.M. van Nistelrooij
+ */
+public final class IndexedDaryHeap implements IntPriorityQueue {
+    private final int d;
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+    private int size;
+
+    /**
+     * Initializes an empty heap for the elements 0, ..., capacity - 1 where
+     * every node has d children
+     * @param capacity number of elements that can be in the heap
+     * @param d number of children of every node
+     */
+    public IndexedDaryHeap(int capacity, int d) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cannot have a negative "
+                    + "capacity.");
+        }
+        if (d < 2) {
+            throw new IllegalArgumentException("Every node must have at least "
+                    + "2 children.");
+        }
+
+        this.d = d;
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Initializes an empty 4-ary heap for the elements 0, ..., capacity - 1
+     * @param capacity number of elements that can be in the heap
+     */
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    /**
+     * Return whether the heap is empty
+     * @return Whether or not the heap contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets number of elements in the heap
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return whether element v is in the heap
+     * @param v the element
+     * @return Whether or not v is in the heap
+     */
+    @Override
+    public boolean contains(int v) {
+        checkElement(v);
+        return positions[v] != -1;
+    }
+
+    /**
+     * Gets the key of element v
+     * @param v the element, which must be in the heap
+     * @return the key of v
+     */
+    public int getKey(int v) {
+        checkContains(v);
+        return keys[v];
+    }
+
+    /**
+     * Inserts element v with key key
+     * @param v the element, which must not be in the heap
+     * @param key the key of v
+     */
+    @Override
+    public void insert(int v, int key) {
+        checkElement(v);
+        if (positions[v] != -1) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "already in the heap.", v));
+        }
+
+        keys[v] = key;
+        siftUp(v, size++);
+    }
+
+    /**
+     * Decreases the key of element v to key
+     * @param v the element, which must be in the heap
+     * @param key the new key of v. Must not be larger than the current key
+     */
+    @Override
+    public void decreaseKey(int v, int key) {
+        checkContains(v);
+        if (key > keys[v]) {
+            throw new IllegalArgumentException(String.format("The new key %d "
+                    + "is larger than the current key %d.", key, keys[v]));
+        }
+
+        keys[v] = key;
+        siftUp(v, positions[v]);
+    }
+
+    /**
+     * Gets the element with the smallest key without removing it
+     * @return the element with the smallest key
+     */
+    public int peekMin() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Removes the element with the smallest key and returns it
+     * @return the element with the smallest key
+     */
+    @Override
+    public int extractMin() {
+        checkNotEmpty();
+
+        int min = heap[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(heap[size], 0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all elements from the heap in time linear in the number of
+     * elements in the heap
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int v, int i) {
+        int key = keys[v];
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            int p = heap[parent];
+            if (keys[p] <= key) {
+                break;
+            }
+            heap[i] = p;
+            positions[p] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        positions[v] = i;
+    }
+
+    private void siftDown(int v, int i) {
+        int key = keys[v];
+        while (true) {
+            int first = d * i + 1;
+            if (first >= size) {
+                break;
+            }
+
+            int minChild = first;
+            int last = Math.min(first + d, size);
+            for (int child = first + 1; child < last; child++) {
+                if (keys[heap[child]] < keys[heap[minChild]]) {
+                    minChild = child;
+                }
+            }
+            if (keys[heap[minChild]] >= key) {
+                break;
+            }
+
+            int c = heap[minChild];
+            heap[i] = c;
+            positions[c] = i;
+            i = minChild;
+        }
+        heap[i] = v;
+        positions[v] = i;
+    }
+
+    private void checkElement(int v) {
+        if (v < 0 || v >= positions.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Element %d is not an element of the heap", v));
+        }
+    }
+
+    private void checkContains(int v) {
+        checkElement(v);
+        if (positions[v] == -1) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "not in the heap.", v));
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty.");
+        }
+    }
+}
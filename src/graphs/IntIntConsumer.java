@@ -0,0 +1,17 @@
+package graphs;
+
+/**
+ * Operation on two ints. Used to visit the edges leaving a vertex as
+ * (destination vertex, slot) pairs without boxing
+ * @author N.C.M. van Nistelrooij
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * Performs the operation on the given ints
+     * @param v the first int, the destination vertex when visiting neighbors
+     * @param slot the second int, the slot when visiting neighbors
+     */
+    void accept(int v, int slot);
+}
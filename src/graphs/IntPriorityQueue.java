@@ -0,0 +1,42 @@
+package graphs;
+
+/**
+ * Min-priority queue of the elements 0, ..., capacity - 1 with integer keys,
+ * where the key of an element in the queue can be decreased
+ * @author N.C.M. van Nistelrooij
+ */
+public interface IntPriorityQueue {
+
+    /**
+     * Return whether the queue is empty
+     * @return Whether or not the queue contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Return whether element v is in the queue
+     * @param v the element
+     * @return Whether or not v is in the queue
+     */
+    boolean contains(int v);
+
+    /**
+     * Inserts element v with key key
+     * @param v the element, which must not be in the queue
+     * @param key the key of v
+     */
+    void insert(int v, int key);
+
+    /**
+     * Decreases the key of element v to key
+     * @param v the element, which must be in the queue
+     * @param key the new key of v. Must not be larger than the current key
+     */
+    void decreaseKey(int v, int key);
+
+    /**
+     * Removes the element with the smallest key and returns it
+     * @return the element with the smallest key
+     */
+    int extractMin();
+}
@@ -0,0 +1,134 @@
+package graphs;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Landmarks for ALT (A*, landmarks and triangle inequality) search. For every
+ * landmark L the distances from L to all vertices and from all vertices to L
+ * are stored, which by the triangle inequality give for every pair of
+ * vertices v and t the lower bounds d(v, L) - d(t, L) and d(L, t) - d(L, v)
+ * on d(v, t)
+ * @author N.C.M. van Nistelrooij
+ */
+public final class Landmarks {
+    private final int nrVertices;
+    private final int[] landmarks;
+    private final int[][] distsFrom;
+    private final int[][] distsTo;
+
+    /**
+     * Selects nrLandmarks landmarks in G by farthest selection, where each
+     * next landmark is the vertex farthest from the landmarks so far, and
+     * computes their shortest path trees in G and in the transpose of G
+     * @param G the input graph with only positive edge weights
+     * @param nrLandmarks number of landmarks. Must be in [1,nrVertices]
+     */
+    public Landmarks(AdjacencyGraph G, int nrLandmarks) {
+        nrVertices = G.getNrVertices();
+        if (nrLandmarks < 1 || nrLandmarks > nrVertices) {
+            throw new IllegalArgumentException(String.format("The number of "
+                    + "landmarks must be in [1,%d], but is %d.", nrVertices,
+                    nrLandmarks));
+        }
+
+        Graph GT = Graphs.transpose(G);
+        landmarks = new int[nrLandmarks];
+        distsFrom = new int[nrLandmarks][];
+        distsTo = new int[nrLandmarks][];
+
+        int[] minDists = Graphs.Dijkstra(G, 0)[0];
+        for (int i = 0; i < nrLandmarks; i++) {
+            int landmark = getFarthestVertex(minDists);
+            landmarks[i] = landmark;
+            distsFrom[i] = Graphs.Dijkstra(G, landmark)[0];
+            distsTo[i] = Graphs.Dijkstra(GT, landmark)[0];
+
+            for (int v = 0; v < nrVertices; v++) {
+                minDists[v] = i == 0 ? distsFrom[i][v]
+                        : Math.min(minDists[v], distsFrom[i][v]);
+            }
+            minDists[landmark] = -1;
+        }
+    }
+
+    /**
+     * Gets number of landmarks
+     * @return number of landmarks
+     */
+    public int getNrLandmarks() {
+        return landmarks.length;
+    }
+
+    /**
+     * Gets the landmark vertices
+     * @return the landmark vertices in order of selection
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Gets number of vertices of the graph the landmarks were computed for
+     * @return number of vertices
+     */
+    public int getNrVertices() {
+        return nrVertices;
+    }
+
+    /**
+     * Computes the largest triangle inequality lower bound on the distance
+     * from vertex v to vertex t over all landmarks
+     * @param v the first vertex
+     * @param t the second vertex
+     * @return a lower bound on the distance from v to t
+     */
+    public int getLowerBound(int v, int t) {
+        checkVertex(v);
+        checkVertex(t);
+
+        int lowerBound = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            int[] distFrom = distsFrom[i];
+            int[] distTo = distsTo[i];
+            if (distTo[v] != Integer.MAX_VALUE
+                    && distTo[t] != Integer.MAX_VALUE) {
+                lowerBound = Math.max(lowerBound, distTo[v] - distTo[t]);
+            }
+            if (distFrom[t] != Integer.MAX_VALUE
+                    && distFrom[v] != Integer.MAX_VALUE) {
+                lowerBound = Math.max(lowerBound, distFrom[t] - distFrom[v]);
+            }
+        }
+
+        return lowerBound;
+    }
+
+    /**
+     * Gets the heuristic for A* search towards vertex t
+     * @param t the target vertex
+     * @return the function mapping vertex v to getLowerBound(v, t)
+     */
+    public IntUnaryOperator getHeuristic(int t) {
+        checkVertex(t);
+        return v -> getLowerBound(v, t);
+    }
+
+    private int getFarthestVertex(int[] dists) {
+        int farthest = -1;
+        for (int v = 0; v < nrVertices; v++) {
+            if (dists[v] != -1
+                    && (farthest == -1 || dists[v] > dists[farthest])) {
+                farthest = v;
+            }
+        }
+
+        return farthest;
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= nrVertices) {
+            throw new IllegalArgumentException(String.format(
+                    "Vertex %d is not a vertex in the graph", u));
+        }
+    }
+}
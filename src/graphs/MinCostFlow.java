@@ -0,0 +1,257 @@
+package graphs;
+
+/**
+ * Minimum-cost maximum flow on a residual network in which every arc also
+ * has a cost, where the backward arc of an edge costs minus the cost of the
+ * edge. Two methods are available. Successive shortest paths repeatedly
+ * augments along a cheapest path from the source to the sink, found by
+ * Dijkstra's algorithm on the reduced costs c(u, v) + p(u) - p(v), where
+ * the potentials p are updated after every search so that the reduced costs
+ * stay non-negative. Its running time grows with the flow value. Cost
+ * scaling first computes a maximum flow by push-relabel and then removes
+ * the negative-cost cycles in the residual network by Goldberg and
+ * Tarjan's refine steps for a shrinking epsilon, whose running time does
+ * not depend on the capacities
+ * @author N.C.M. van Nistelrooij
+ */
+final class MinCostFlow {
+    private static final int ALPHA = 8;
+
+    private final ResidualNetwork Gf;
+    private final int nrVertices;
+    private final int[] costs;
+
+    /**
+     * Initializes min-cost flow on G with zero flow
+     * @param G the flow network with the capacity as first and the cost as
+     * second edge variable
+     */
+    MinCostFlow(AdjacencyGraph G) {
+        Gf = new ResidualNetwork(G);
+        nrVertices = Gf.nrVertices;
+        costs = new int[Gf.heads.length];
+        for (int u = 0, e = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++, e++) {
+                int a = Gf.edgeArcs[e];
+                costs[a] = G.getSlotVariable(u, slot, 2);
+                costs[Gf.reverses[a]] = -costs[a];
+            }
+        }
+    }
+
+    /**
+     * Computes a minimum-cost maximum flow from s to t by successive
+     * shortest paths
+     * @param s the source vertex
+     * @param t the sink vertex
+     */
+    void successiveShortestPaths(int s, int t) {
+        int[] potentials = getInitialPotentials();
+        int[] dists = new int[nrVertices];
+        int[] parentArcs = new int[nrVertices];
+        IndexedDaryHeap Q = new IndexedDaryHeap(nrVertices);
+
+        while (true) {
+            for (int v = 0; v < nrVertices; v++) {
+                dists[v] = Integer.MAX_VALUE;
+            }
+            dists[s] = 0;
+            Q.clear();
+            Q.insert(s, 0);
+            while (!Q.isEmpty()) {
+                int u = Q.extractMin();
+                if (u == t) {
+                    break;
+                }
+
+                for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                    int v = Gf.heads[a];
+                    if (Gf.caps[a] == 0) {
+                        continue;
+                    }
+
+                    int d = dists[u] + costs[a] + potentials[u]
+                            - potentials[v];
+                    if (d < dists[v]) {
+                        if (dists[v] == Integer.MAX_VALUE) {
+                            Q.insert(v, d);
+                        } else {
+                            Q.decreaseKey(v, d);
+                        }
+                        dists[v] = d;
+                        parentArcs[v] = a;
+                    }
+                }
+            }
+
+            int distT = dists[t];
+            if (distT == Integer.MAX_VALUE) {
+                return;
+            }
+
+            for (int v = 0; v < nrVertices; v++) {
+                potentials[v] += Math.min(dists[v], distT);
+            }
+            Gf.augment(s, t, parentArcs);
+        }
+    }
+
+    /**
+     * Computes a minimum-cost maximum flow from s to t by computing a
+     * maximum flow and then refining it for a shrinking epsilon. The costs
+     * are multiplied by nrVertices + 1, so that the flow is optimal once it
+     * is epsilon-optimal for epsilon 1
+     * @param s the source vertex
+     * @param t the sink vertex
+     */
+    void costScaling(int s, int t) {
+        PushRelabel maxFlow = new PushRelabel(Gf, s, t);
+        maxFlow.computeMinCutValue();
+        maxFlow.convertToFlow();
+
+        long scale = nrVertices + 1;
+        long epsilon = 0;
+        for (int a = 0; a < costs.length; a++) {
+            epsilon = Math.max(epsilon, Math.abs(costs[a]) * scale);
+        }
+
+        long[] prices = new long[nrVertices];
+        long[] excesses = new long[nrVertices];
+        int[] currents = new int[nrVertices];
+        int[] queue = new int[nrVertices];
+        boolean[] inQueue = new boolean[nrVertices];
+        while (epsilon > 1) {
+            epsilon = Math.max(1, epsilon / ALPHA);
+            refine(epsilon, scale, prices, excesses, currents, queue, inQueue);
+        }
+    }
+
+    /**
+     * Makes the flow graph of the current flow, with the edges in the order
+     * of the flow network it was made from
+     * @return the flow graph, with the flow as first, the capacity as second
+     * and the cost as third edge variable
+     */
+    Graph toFlowGraph() {
+        Graph GStar = new Graph(nrVertices, 3);
+        GStar.indexEdges();
+        for (int e = 0; e < Gf.edgeArcs.length; e++) {
+            int a = Gf.edgeArcs[e];
+            GStar.addEdge(Gf.getTail(a), Gf.heads[a],
+                    Gf.capacities[e] - Gf.caps[a], Gf.capacities[e], costs[a]);
+        }
+
+        return GStar;
+    }
+
+    private void refine(long epsilon, long scale, long[] prices,
+            long[] excesses, int[] currents, int[] queue, boolean[] inQueue) {
+        for (int u = 0; u < nrVertices; u++) {
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int c = Gf.caps[a];
+                if (c > 0 && getReducedCost(a, u, scale, prices) < 0) {
+                    Gf.push(a, c);
+                    excesses[u] -= c;
+                    excesses[Gf.heads[a]] += c;
+                }
+            }
+        }
+
+        int head = 0;
+        int size = 0;
+        for (int v = 0; v < nrVertices; v++) {
+            currents[v] = Gf.offsets[v];
+            inQueue[v] = excesses[v] > 0;
+            if (inQueue[v]) {
+                queue[size++] = v;
+            }
+        }
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % nrVertices;
+            size--;
+            inQueue[u] = false;
+
+            while (excesses[u] > 0) {
+                int a = currents[u];
+                if (a == Gf.offsets[u + 1]) {
+                    relabel(u, epsilon, scale, prices);
+                    currents[u] = Gf.offsets[u];
+                    continue;
+                }
+
+                int v = Gf.heads[a];
+                if (Gf.caps[a] > 0 && v != u
+                        && getReducedCost(a, u, scale, prices) < 0) {
+                    int delta = (int)Math.min(excesses[u], Gf.caps[a]);
+                    Gf.push(a, delta);
+                    excesses[u] -= delta;
+                    excesses[v] += delta;
+                    if (excesses[v] > 0 && !inQueue[v]) {
+                        queue[(head + size) % nrVertices] = v;
+                        size++;
+                        inQueue[v] = true;
+                    }
+                } else {
+                    currents[u]++;
+                }
+            }
+        }
+    }
+
+    private void relabel(int u, long epsilon, long scale, long[] prices) {
+        long maxPrice = Long.MIN_VALUE;
+        for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+            int v = Gf.heads[a];
+            if (Gf.caps[a] > 0 && v != u) {
+                maxPrice = Math.max(maxPrice, prices[v] - costs[a] * scale);
+            }
+        }
+        prices[u] = maxPrice - epsilon;
+    }
+
+    private long getReducedCost(int a, int u, long scale, long[] prices) {
+        return costs[a] * scale + prices[u] - prices[Gf.heads[a]];
+    }
+
+    private int[] getInitialPotentials() {
+        int[] potentials = new int[nrVertices];
+        int[] lengths = new int[nrVertices];
+        int[] queue = new int[nrVertices];
+        boolean[] inQueue = new boolean[nrVertices];
+        for (int v = 0; v < nrVertices; v++) {
+            queue[v] = v;
+            inQueue[v] = true;
+        }
+
+        int head = 0;
+        int size = nrVertices;
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % nrVertices;
+            size--;
+            inQueue[u] = false;
+
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                int d = potentials[u] + costs[a];
+                if (Gf.caps[a] > 0 && d < potentials[v]) {
+                    potentials[v] = d;
+                    lengths[v] = lengths[u] + 1;
+                    if (lengths[v] >= nrVertices) {
+                        throw new IllegalArgumentException("The input graph "
+                                + "cannot have negative-cost cycles");
+                    }
+                    if (!inQueue[v]) {
+                        queue[(head + size) % nrVertices] = v;
+                        size++;
+                        inQueue[v] = true;
+                    }
+                }
+            }
+        }
+
+        return potentials;
+    }
+}
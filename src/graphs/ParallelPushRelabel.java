@@ -0,0 +1,170 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free parallel push-relabel after Hong. The active vertices are
+ * discharged in rounds, where every round discharges all vertices that
+ * became active in the previous round in parallel on the common
+ * ForkJoinPool. A vertex is only discharged by one thread at a time, and
+ * that thread pushes to the lowest neighbor in the residual network if the
+ * vertex is higher than it and relabels the vertex otherwise. Residual
+ * capacities, excesses and heights are atomic, and every thread only ever
+ * lowers the residual capacities and the excess of its own vertex, so what
+ * it reads of them is at most what it may use. Between rounds the heights
+ * are periodically recomputed by parallel backward BFSs from the sink and
+ * the source
+ * @author N.C.M. van Nistelrooij
+ */
+final class ParallelPushRelabel {
+    private final ResidualNetwork Gf;
+    private final int nrVertices;
+    private final int s;
+    private final int t;
+    private final AtomicIntegerArray caps;
+    private final AtomicIntegerArray heights;
+    private final AtomicLongArray excesses;
+    private final AtomicIntegerArray queued;
+    private final LongAdder nrRelabels;
+    private final int[] next;
+    private final AtomicInteger nrNext;
+    private int round;
+
+    /**
+     * Initializes parallel push-relabel on Gf with source s and sink t
+     * @param Gf the residual network of the zero flow
+     * @param s the source vertex
+     * @param t the sink vertex
+     */
+    ParallelPushRelabel(ResidualNetwork Gf, int s, int t) {
+        this.Gf = Gf;
+        this.s = s;
+        this.t = t;
+        nrVertices = Gf.nrVertices;
+        caps = new AtomicIntegerArray(Gf.caps);
+        heights = new AtomicIntegerArray(nrVertices);
+        excesses = new AtomicLongArray(nrVertices);
+        queued = new AtomicIntegerArray(nrVertices);
+        nrRelabels = new LongAdder();
+        next = new int[nrVertices];
+        nrNext = new AtomicInteger();
+    }
+
+    /**
+     * Computes a maximum flow and stores it in the residual network
+     */
+    void run() {
+        for (int a = Gf.offsets[s]; a < Gf.offsets[s + 1]; a++) {
+            int c = caps.get(a);
+            if (Gf.heads[a] != s && c > 0) {
+                caps.set(a, 0);
+                caps.addAndGet(Gf.reverses[a], c);
+                excesses.addAndGet(Gf.heads[a], c);
+                excesses.addAndGet(s, -c);
+            }
+        }
+
+        int[] active = globalRelabel();
+        while (active.length > 0) {
+            if (nrRelabels.sum() > nrVertices) {
+                active = globalRelabel();
+            }
+
+            round++;
+            nrNext.set(0);
+            int[] discharged = active;
+            IntStream.range(0, discharged.length).parallel()
+                    .forEach(i -> discharge(discharged[i]));
+            active = Arrays.copyOf(next, nrNext.get());
+        }
+
+        for (int a = 0; a < Gf.caps.length; a++) {
+            Gf.caps[a] = caps.get(a);
+        }
+    }
+
+    private void discharge(int u) {
+        while (excesses.get(u) > 0) {
+            int minHeight = Integer.MAX_VALUE;
+            int minArc = -1;
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                if (v != u && caps.get(a) > 0) {
+                    int h = heights.get(v);
+                    if (h < minHeight) {
+                        minHeight = h;
+                        minArc = a;
+                    }
+                }
+            }
+            if (minArc == -1) {
+                return;
+            }
+
+            if (heights.get(u) > minHeight) {
+                int v = Gf.heads[minArc];
+                int delta = (int)Math.min(excesses.get(u), caps.get(minArc));
+                caps.addAndGet(minArc, -delta);
+                caps.addAndGet(Gf.reverses[minArc], delta);
+                excesses.addAndGet(u, -delta);
+                if (excesses.getAndAdd(v, delta) == 0 && v != s && v != t) {
+                    enqueue(v);
+                }
+            } else {
+                heights.set(u, minHeight + 1);
+                nrRelabels.increment();
+            }
+        }
+    }
+
+    private void enqueue(int v) {
+        if (queued.getAndSet(v, round) != round) {
+            next[nrNext.getAndIncrement()] = v;
+        }
+    }
+
+    private int[] globalRelabel() {
+        nrRelabels.reset();
+        for (int v = 0; v < nrVertices; v++) {
+            heights.set(v, -1);
+        }
+        heights.set(t, 0);
+        heights.set(s, nrVertices);
+        backwardBFS(t, 0);
+        backwardBFS(s, nrVertices);
+        for (int v = 0; v < nrVertices; v++) {
+            heights.compareAndSet(v, -1, 2 * nrVertices);
+        }
+
+        return IntStream.range(0, nrVertices).parallel()
+                .filter(v -> v != s && v != t && excesses.get(v) > 0)
+                .toArray();
+    }
+
+    private void backwardBFS(int root, int rootHeight) {
+        int[] frontier = {root};
+        int[] nextFrontier = new int[nrVertices];
+        AtomicInteger size = new AtomicInteger();
+        for (int h = rootHeight + 1; frontier.length > 0; h++) {
+            int height = h;
+            int[] current = frontier;
+            size.set(0);
+            IntStream.range(0, current.length).parallel().forEach(i -> {
+                int u = current[i];
+                for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                    int v = Gf.heads[a];
+                    if (caps.get(Gf.reverses[a]) > 0
+                            && heights.compareAndSet(v, -1, height)) {
+                        nextFrontier[size.getAndIncrement()] = v;
+                    }
+                }
+            });
+            frontier = Arrays.copyOf(nextFrontier, size.get());
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package graphs;
+
+/**
+ * Highest-label push-relabel on a residual network, in two phases. The first
+ * phase computes a maximum preflow by always discharging an active vertex
+ * of largest height, where a height of nrVertices means that the vertex
+ * cannot reach the sink anymore. The heights are periodically recomputed
+ * by a backward BFS from the sink (global relabeling), and when the last
+ * vertex of a height is relabeled all vertices above it are lifted to
+ * nrVertices at once (gap heuristic). After the first phase the excess of
+ * the sink is the value of a minimum cut. The second phase returns the
+ * remaining excesses to the source, which turns the preflow into a maximum
+ * flow
+ * @author N.C.M. van Nistelrooij
+ */
+final class PushRelabel {
+    private static final int ALPHA = 6;
+    private static final int BETA = 12;
+
+    private final ResidualNetwork Gf;
+    private final int nrVertices;
+    private final int s;
+    private final int t;
+    private final int[] heights;
+    private final int[] currents;
+    private final long[] excesses;
+    private final int[] activeHeads;
+    private final int[] nextActives;
+    private final int[] inactiveHeads;
+    private final int[] nextInactives;
+    private final int[] prevInactives;
+    private final int[] queue;
+    private int maxActive;
+    private int maxHeight;
+    private long work;
+
+    /**
+     * Initializes push-relabel on Gf with source s and sink t
+     * @param Gf the residual network of the zero flow
+     * @param s the source vertex
+     * @param t the sink vertex
+     */
+    PushRelabel(ResidualNetwork Gf, int s, int t) {
+        this.Gf = Gf;
+        this.s = s;
+        this.t = t;
+        nrVertices = Gf.nrVertices;
+        heights = new int[nrVertices];
+        currents = new int[nrVertices];
+        excesses = new long[nrVertices];
+        activeHeads = new int[nrVertices];
+        nextActives = new int[nrVertices];
+        inactiveHeads = new int[nrVertices];
+        nextInactives = new int[nrVertices];
+        prevInactives = new int[nrVertices];
+        queue = new int[nrVertices];
+    }
+
+    /**
+     * Runs the first phase, which computes a maximum preflow
+     * @return the value of a minimum cut between s and t
+     */
+    long computeMinCutValue() {
+        for (int a = Gf.offsets[s]; a < Gf.offsets[s + 1]; a++) {
+            int c = Gf.caps[a];
+            if (Gf.heads[a] != s && c > 0) {
+                Gf.push(a, c);
+                excesses[Gf.heads[a]] += c;
+                excesses[s] -= c;
+            }
+        }
+
+        long maxWork = (long)ALPHA * nrVertices + Gf.heads.length / 2;
+        globalRelabel();
+        while (maxActive >= 0) {
+            int u = activeHeads[maxActive];
+            if (u == -1) {
+                maxActive--;
+                continue;
+            }
+
+            activeHeads[maxActive] = nextActives[u];
+            discharge(u);
+            if (work > maxWork) {
+                globalRelabel();
+            }
+        }
+
+        return excesses[t];
+    }
+
+    /**
+     * Runs the second phase, which returns the excesses of the maximum
+     * preflow to s by FIFO push-relabel with s as sink
+     */
+    void convertToFlow() {
+        for (int v = 0; v < nrVertices; v++) {
+            heights[v] = Integer.MAX_VALUE;
+            currents[v] = Gf.offsets[v];
+        }
+        heights[s] = 0;
+        int head = 0;
+        int size = 0;
+        queue[size++] = s;
+        while (head < size) {
+            int u = queue[head++];
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                if (v != t && heights[v] == Integer.MAX_VALUE
+                        && Gf.caps[Gf.reverses[a]] > 0) {
+                    heights[v] = heights[u] + 1;
+                    queue[size++] = v;
+                }
+            }
+        }
+
+        boolean[] inQueue = new boolean[nrVertices];
+        head = 0;
+        size = 0;
+        for (int v = 0; v < nrVertices; v++) {
+            if (v != s && v != t && excesses[v] > 0) {
+                queue[size++] = v;
+                inQueue[v] = true;
+            }
+        }
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % nrVertices;
+            size--;
+            inQueue[u] = false;
+
+            while (excesses[u] > 0) {
+                int a = currents[u];
+                if (a == Gf.offsets[u + 1]) {
+                    relabelTowardsSource(u);
+                    continue;
+                }
+
+                int v = Gf.heads[a];
+                if (Gf.caps[a] > 0 && v != t
+                        && heights[u] == heights[v] + 1) {
+                    int delta = (int)Math.min(excesses[u], Gf.caps[a]);
+                    Gf.push(a, delta);
+                    excesses[u] -= delta;
+                    excesses[v] += delta;
+                    if (v != s && !inQueue[v]) {
+                        queue[(head + size) % nrVertices] = v;
+                        size++;
+                        inQueue[v] = true;
+                    }
+                } else {
+                    currents[u]++;
+                }
+            }
+        }
+    }
+
+    private void relabelTowardsSource(int u) {
+        int minHeight = Integer.MAX_VALUE;
+        for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+            int v = Gf.heads[a];
+            if (Gf.caps[a] > 0 && v != t && v != u) {
+                minHeight = Math.min(minHeight, heights[v]);
+            }
+        }
+        heights[u] = minHeight + 1;
+        currents[u] = Gf.offsets[u];
+    }
+
+    private void discharge(int u) {
+        while (true) {
+            int h = heights[u];
+            int end = Gf.offsets[u + 1];
+            int a = currents[u];
+            while (a < end) {
+                int v = Gf.heads[a];
+                if (Gf.caps[a] > 0 && heights[v] == h - 1) {
+                    int delta = (int)Math.min(excesses[u], Gf.caps[a]);
+                    Gf.push(a, delta);
+                    if (v != t && excesses[v] == 0) {
+                        removeInactive(v);
+                        addActive(v);
+                    }
+                    excesses[u] -= delta;
+                    excesses[v] += delta;
+                    if (excesses[u] == 0) {
+                        break;
+                    }
+                }
+                a++;
+            }
+            currents[u] = a;
+
+            if (excesses[u] == 0) {
+                addInactive(u);
+                return;
+            }
+
+            relabel(u);
+            if (activeHeads[h] == -1 && inactiveHeads[h] == -1) {
+                gap(h);
+                heights[u] = nrVertices;
+                return;
+            }
+            if (heights[u] == nrVertices) {
+                return;
+            }
+            maxHeight = Math.max(maxHeight, heights[u]);
+        }
+    }
+
+    private void relabel(int u) {
+        work += BETA;
+        int minHeight = nrVertices;
+        int minArc = Gf.offsets[u];
+        for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+            work++;
+            int v = Gf.heads[a];
+            if (Gf.caps[a] > 0 && v != u && heights[v] < minHeight) {
+                minHeight = heights[v];
+                minArc = a;
+            }
+        }
+        heights[u] = Math.min(minHeight + 1, nrVertices);
+        currents[u] = minArc;
+    }
+
+    private void gap(int h) {
+        for (int g = h + 1; g <= maxHeight; g++) {
+            for (int v = activeHeads[g]; v != -1; v = nextActives[v]) {
+                heights[v] = nrVertices;
+            }
+            for (int v = inactiveHeads[g]; v != -1; v = nextInactives[v]) {
+                heights[v] = nrVertices;
+            }
+            activeHeads[g] = -1;
+            inactiveHeads[g] = -1;
+        }
+        maxHeight = h - 1;
+        maxActive = Math.min(maxActive, maxHeight);
+    }
+
+    private void globalRelabel() {
+        work = 0;
+        for (int v = 0; v < nrVertices; v++) {
+            heights[v] = nrVertices;
+            activeHeads[v] = -1;
+            inactiveHeads[v] = -1;
+        }
+        heights[t] = 0;
+
+        int head = 0;
+        int size = 0;
+        queue[size++] = t;
+        while (head < size) {
+            int u = queue[head++];
+            for (int a = Gf.offsets[u]; a < Gf.offsets[u + 1]; a++) {
+                int v = Gf.heads[a];
+                if (v != s && heights[v] == nrVertices
+                        && Gf.caps[Gf.reverses[a]] > 0) {
+                    heights[v] = heights[u] + 1;
+                    queue[size++] = v;
+                }
+            }
+        }
+
+        maxActive = -1;
+        maxHeight = -1;
+        for (int v = 0; v < nrVertices; v++) {
+            if (v == s || v == t || heights[v] == nrVertices) {
+                continue;
+            }
+
+            currents[v] = Gf.offsets[v];
+            if (excesses[v] > 0) {
+                addActive(v);
+            } else {
+                addInactive(v);
+            }
+        }
+    }
+
+    private void addActive(int v) {
+        int h = heights[v];
+        nextActives[v] = activeHeads[h];
+        activeHeads[h] = v;
+        maxActive = Math.max(maxActive, h);
+        maxHeight = Math.max(maxHeight, h);
+    }
+
+    private void addInactive(int v) {
+        int h = heights[v];
+        int head = inactiveHeads[h];
+        nextInactives[v] = head;
+        prevInactives[v] = -1;
+        if (head != -1) {
+            prevInactives[head] = v;
+        }
+        inactiveHeads[h] = v;
+        maxHeight = Math.max(maxHeight, h);
+    }
+
+    private void removeInactive(int v) {
+        if (prevInactives[v] == -1) {
+            inactiveHeads[heights[v]] = nextInactives[v];
+        } else {
+            nextInactives[prevInactives[v]] = nextInactives[v];
+        }
+        if (nextInactives[v] != -1) {
+            prevInactives[nextInactives[v]] = prevInactives[v];
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package graphs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone radix heap for the elements 0, ..., capacity - 1. Keys may not be
+ * smaller than the last extracted key, which is initially 0. An element with
+ * key key is kept in bucket 0 if key equals the last extracted key and
+ * otherwise in the bucket numbered after the highest bit in which key and the
+ * last extracted key differ, so every element moves to a lower bucket at most
+ * 32 times
+ * @author N.C.M. van Nistelrooij
+ */
+public final class RadixHeap implements IntPriorityQueue {
+    private static final int NR_BUCKETS = Integer.SIZE + 1;
+
+    private final int[] heads;
+    private final int[] nexts;
+    private final int[] prevs;
+    private final int[] keys;
+    private final int[] buckets;
+    private int size;
+    private int last;
+
+    /**
+     * Initializes an empty heap for the elements 0, ..., capacity - 1
+     * @param capacity number of elements that can be in the heap
+     */
+    public RadixHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cannot have a negative "
+                    + "capacity.");
+        }
+
+        heads = new int[NR_BUCKETS];
+        nexts = new int[capacity];
+        prevs = new int[capacity];
+        keys = new int[capacity];
+        buckets = new int[capacity];
+        for (int b = 0; b < NR_BUCKETS; b++) {
+            heads[b] = -1;
+        }
+        for (int v = 0; v < capacity; v++) {
+            buckets[v] = -1;
+        }
+    }
+
+    /**
+     * Return whether the heap is empty
+     * @return Whether or not the heap contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return whether element v is in the heap
+     * @param v the element
+     * @return Whether or not v is in the heap
+     */
+    @Override
+    public boolean contains(int v) {
+        checkElement(v);
+        return buckets[v] != -1;
+    }
+
+    /**
+     * Inserts element v with key key
+     * @param v the element, which must not be in the heap
+     * @param key the key of v. Must not be smaller than the last extracted
+     * key, or 0 if no key has been extracted yet
+     */
+    @Override
+    public void insert(int v, int key) {
+        checkElement(v);
+        if (buckets[v] != -1) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "already in the heap.", v));
+        }
+        checkKey(key);
+
+        keys[v] = key;
+        link(v, bucket(key));
+        size++;
+    }
+
+    /**
+     * Decreases the key of element v to key
+     * @param v the element, which must be in the heap
+     * @param key the new key of v. Must not be larger than the current key
+     * and not smaller than the last extracted key
+     */
+    @Override
+    public void decreaseKey(int v, int key) {
+        checkContains(v);
+        if (key > keys[v]) {
+            throw new IllegalArgumentException(String.format("The new key %d "
+                    + "is larger than the current key %d.", key, keys[v]));
+        }
+        checkKey(key);
+
+        unlink(v);
+        keys[v] = key;
+        link(v, bucket(key));
+    }
+
+    /**
+     * Removes the element with the smallest key and returns it
+     * @return the element with the smallest key
+     */
+    @Override
+    public int extractMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty.");
+        }
+
+        if (heads[0] == -1) {
+            int b = 1;
+            while (heads[b] == -1) {
+                b++;
+            }
+
+            int min = heads[b];
+            for (int v = nexts[min]; v != -1; v = nexts[v]) {
+                if (keys[v] < keys[min]) {
+                    min = v;
+                }
+            }
+            last = keys[min];
+
+            int v = heads[b];
+            heads[b] = -1;
+            while (v != -1) {
+                int next = nexts[v];
+                link(v, bucket(keys[v]));
+                v = next;
+            }
+        }
+
+        int min = heads[0];
+        unlink(min);
+        buckets[min] = -1;
+        size--;
+        return min;
+    }
+
+    private int bucket(int key) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int v, int b) {
+        int head = heads[b];
+        nexts[v] = head;
+        prevs[v] = -1;
+        if (head != -1) {
+            prevs[head] = v;
+        }
+        heads[b] = v;
+        buckets[v] = b;
+    }
+
+    private void unlink(int v) {
+        if (prevs[v] == -1) {
+            heads[buckets[v]] = nexts[v];
+        } else {
+            nexts[prevs[v]] = nexts[v];
+        }
+        if (nexts[v] != -1) {
+            prevs[nexts[v]] = prevs[v];
+        }
+    }
+
+    private void checkKey(int key) {
+        if (key < last) {
+            throw new IllegalArgumentException(String.format("Key %d is "
+                    + "smaller than the last extracted key %d.", key, last));
+        }
+    }
+
+    private void checkElement(int v) {
+        if (v < 0 || v >= keys.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Element %d is not an element of the heap", v));
+        }
+    }
+
+    private void checkContains(int v) {
+        checkElement(v);
+        if (buckets[v] == -1) {
+            throw new IllegalArgumentException(String.format("Element %d is "
+                    + "not in the heap.", v));
+        }
+    }
+}
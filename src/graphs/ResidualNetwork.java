@@ -0,0 +1,280 @@
+package graphs;
+
+/**
+ * Residual network of a flow network in flat arrays. Every edge (u, v) of
+ * the flow network gives a forward arc from u to v and a backward arc from v
+ * to u, and the arcs are grouped by tail, so the arcs out of u are
+ * offsets[u], ..., offsets[u + 1] - 1. Every arc stores its head, its
+ * residual capacity and the index of its reverse arc, so pushing flow along
+ * an arc takes O(1) time and anti-parallel edges need no special care
+ * @author N.C.M. van Nistelrooij
+ */
+final class ResidualNetwork {
+    final int nrVertices;
+    final int[] offsets;
+    final int[] heads;
+    final int[] caps;
+    final int[] reverses;
+    final int[] edgeArcs;
+    final int[] capacities;
+    private int[] queue;
+    private int[] visits;
+    private int visit;
+
+    /**
+     * Initializes the residual network of G with zero flow, where the
+     * capacity of an edge is its weight
+     * @param G the flow network
+     */
+    ResidualNetwork(AdjacencyGraph G) {
+        this(G, false);
+    }
+
+    /**
+     * Initializes the residual network of G
+     * @param G the flow network, or the flow graph if flows is true
+     * @param flows whether G is a flow graph with the flow as first and the
+     * capacity as second edge variable, instead of a flow network with zero
+     * flow and the capacity as edge weight
+     */
+    ResidualNetwork(AdjacencyGraph G, boolean flows) {
+        nrVertices = G.getNrVertices();
+        int nrEdges = G.getNrEdges();
+        offsets = new int[nrVertices + 1];
+        heads = new int[2 * nrEdges];
+        caps = new int[2 * nrEdges];
+        reverses = new int[2 * nrEdges];
+        edgeArcs = new int[nrEdges];
+        capacities = new int[nrEdges];
+
+        for (int u = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            offsets[u + 1] += outDegree;
+            for (int slot = 0; slot < outDegree; slot++) {
+                offsets[G.getTarget(u, slot) + 1]++;
+            }
+        }
+        for (int u = 0; u < nrVertices; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        int[] nexts = new int[nrVertices];
+        System.arraycopy(offsets, 0, nexts, 0, nrVertices);
+        for (int u = 0, e = 0; u < nrVertices; u++) {
+            int outDegree = G.getOutDegree(u);
+            for (int slot = 0; slot < outDegree; slot++, e++) {
+                int v = G.getTarget(u, slot);
+                int forward = nexts[u]++;
+                int backward = nexts[v]++;
+                heads[forward] = v;
+                heads[backward] = u;
+                int c = flows ? G.getSlotVariable(u, slot, 2)
+                        : G.getWeight(u, slot);
+                int f = flows ? G.getWeight(u, slot) : 0;
+                caps[forward] = c - f;
+                caps[backward] = f;
+                reverses[forward] = backward;
+                reverses[backward] = forward;
+                edgeArcs[e] = forward;
+                capacities[e] = c;
+            }
+        }
+    }
+
+    /**
+     * Initializes a copy of Gf with its own residual capacities, which shares
+     * the arc structure with Gf so that both can be used concurrently
+     * @param Gf the residual network to copy
+     */
+    ResidualNetwork(ResidualNetwork Gf) {
+        nrVertices = Gf.nrVertices;
+        offsets = Gf.offsets;
+        heads = Gf.heads;
+        caps = Gf.caps.clone();
+        reverses = Gf.reverses;
+        edgeArcs = Gf.edgeArcs;
+        capacities = Gf.capacities;
+    }
+
+    /**
+     * Gets the tail of arc a
+     * @param a the arc
+     * @return the vertex arc a leaves
+     */
+    int getTail(int a) {
+        return heads[reverses[a]];
+    }
+
+    /**
+     * Pushes delta units of flow along arc a
+     * @param a the arc, which must have a residual capacity of at least delta
+     * @param delta the amount of flow
+     */
+    void push(int a, int delta) {
+        caps[a] -= delta;
+        caps[reverses[a]] += delta;
+    }
+
+    /**
+     * Finds a shortest path from s to t by BFS over the arcs with a residual
+     * capacity of at least delta. The BFS workspace is kept between calls,
+     * so a call only touches the vertices it visits
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @param delta the smallest residual capacity of an arc on the path
+     * @param parentArcs the array in which the arc into every vertex on the
+     * path is stored
+     * @return whether or not there is such a path
+     */
+    boolean findAugmentingPath(int s, int t, int delta, int[] parentArcs) {
+        if (queue == null) {
+            queue = new int[nrVertices];
+            visits = new int[nrVertices];
+        }
+        visit++;
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = s;
+        visits[s] = visit;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+                int v = heads[a];
+                if (caps[a] >= delta && visits[v] != visit) {
+                    visits[v] = visit;
+                    parentArcs[v] = a;
+                    if (v == t) {
+                        return true;
+                    }
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the vertices that can be reached from s by arcs with a positive
+     * residual capacity
+     * @param s the start vertex
+     * @return for every vertex, whether or not it can be reached from s by
+     * arcs with a positive residual capacity
+     */
+    boolean[] getReachable(int s) {
+        boolean[] reachable = new boolean[nrVertices];
+        int[] queue = new int[nrVertices];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = s;
+        reachable[s] = true;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+                int v = heads[a];
+                if (caps[a] > 0 && !reachable[v]) {
+                    reachable[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return reachable;
+    }
+
+    /**
+     * Pushes the residual capacity of the path from s to t found by
+     * findAugmentingPath along it
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @param parentArcs the arc into every vertex on the path
+     * @return the amount of flow pushed
+     */
+    int augment(int s, int t, int[] parentArcs) {
+        return augment(s, t, parentArcs, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Pushes the residual capacity of the path from s to t found by
+     * findAugmentingPath along it, but at most limit units of flow
+     * @param s the source vertex
+     * @param t the sink vertex
+     * @param parentArcs the arc into every vertex on the path
+     * @param limit the largest amount of flow to push
+     * @return the amount of flow pushed
+     */
+    int augment(int s, int t, int[] parentArcs, int limit) {
+        int pathResidualCapacity = limit;
+        for (int v = t; v != s; v = getTail(parentArcs[v])) {
+            pathResidualCapacity = Math.min(pathResidualCapacity,
+                    caps[parentArcs[v]]);
+        }
+        for (int v = t; v != s; v = getTail(parentArcs[v])) {
+            push(parentArcs[v], pathResidualCapacity);
+        }
+
+        return pathResidualCapacity;
+    }
+
+    /**
+     * Sets the capacity of edge e of the flow network. If the flow along e
+     * is larger than the new capacity, it is lowered to the new capacity,
+     * which leaves an excess at the tail and a deficit at the head of e
+     * @param e the index of the edge in the flow network
+     * @param capacity the new capacity
+     * @return the amount by which the flow along e was lowered
+     */
+    int setCapacity(int e, int capacity) {
+        int a = edgeArcs[e];
+        int f = capacities[e] - caps[a];
+        capacities[e] = capacity;
+        if (f <= capacity) {
+            caps[a] = capacity - f;
+            return 0;
+        }
+
+        caps[a] = 0;
+        caps[reverses[a]] -= f - capacity;
+        return f - capacity;
+    }
+
+    /**
+     * Computes the value of the current flow, which is the net flow out of s
+     * @param s the source vertex
+     * @return the flow value
+     */
+    long getFlowValue(int s) {
+        long value = 0;
+        for (int e = 0; e < edgeArcs.length; e++) {
+            int a = edgeArcs[e];
+            int f = capacities[e] - caps[a];
+            if (getTail(a) == s) {
+                value += f;
+            }
+            if (heads[a] == s) {
+                value -= f;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Makes the flow graph of the current flow, with the edges in the order
+     * of the flow network it was made from
+     * @return the flow graph, with the flow as first and the capacity as
+     * second edge variable
+     */
+    Graph toFlowGraph() {
+        Graph GStar = new Graph(nrVertices, 2);
+        GStar.indexEdges();
+        for (int e = 0; e < edgeArcs.length; e++) {
+            int a = edgeArcs[e];
+            GStar.addEdge(getTail(a), heads[a], capacities[e] - caps[a],
+                    capacities[e]);
+        }
+
+        return GStar;
+    }
+}
@@ -0,0 +1,155 @@
+package graphs;
+
+import java.util.Arrays;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class CSRGraphTest {
+
+    public CSRGraphTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeNoEdges() {
+        CSRGraph G = new CSRGraph(new Graph(3, 1));
+
+        assertEquals(3, G.getNrVertices());
+        assertEquals(1, G.getNrEdgeVariables());
+        assertEquals(0, G.getNrEdges());
+        assertEquals(0, G.getOutDegree(2));
+    }
+
+    @Test
+    public void testInitialize() {
+        Graph G = new Graph(3, 2);
+        G.addEdge(0, 1, 2, 3);
+        G.addEdge(0, 2, 4, 5);
+        G.addEdge(2, 1, 6, 7);
+
+        CSRGraph GCSR = new CSRGraph(G);
+
+        assertEquals(3, GCSR.getNrEdges());
+        assertEquals(2, GCSR.getOutDegree(0));
+        assertEquals(0, GCSR.getOutDegree(1));
+        assertEquals(1, GCSR.getOutDegree(2));
+        assertEquals(2, GCSR.getTarget(0, 1));
+        assertEquals(7, GCSR.getSlotVariable(2, 0, 2));
+        assertEquals(G.toString(), GCSR.toString());
+    }
+
+
+    @Test
+    public void testForEachNeighbor() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(1, 3, 1);
+        G.addEdge(1, 0, 2);
+        G.addEdge(2, 1, 3);
+
+        CSRGraph GCSR = new CSRGraph(G);
+        int[] weights = new int[4];
+        GCSR.forEachNeighbor(1, (v, slot) -> weights[v]
+                = GCSR.getWeight(1, slot));
+
+        assertTrue(Arrays.equals(weights, new int[]{2, 0, 0, 1}));
+    }
+
+    @Test
+    public void testGetOutDegreeNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 3 is not a vertex in the graph");
+
+        CSRGraph G = new CSRGraph(new Graph(3));
+        G.getOutDegree(3);
+    }
+
+
+    @Test
+    public void testHasEdge() {
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+        G.addEdge(2, 0);
+
+        CSRGraph GCSR = new CSRGraph(G);
+
+        assertTrue(GCSR.hasEdge(0, 1));
+        assertTrue(GCSR.hasEdge(2, 0));
+        assertFalse(GCSR.hasEdge(1, 0));
+    }
+
+
+    @Test
+    public void testGetNonExistingEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge (0, 1) does not exist in the graph");
+
+        CSRGraph G = new CSRGraph(new Graph(2, 1));
+        G.getEdgeVariables(0, 1);
+    }
+
+    @Test
+    public void testGetEdgeNonExistingVariable() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge variable 0 is the "
+                    + "destination vertex and so not an edge variable.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+
+        CSRGraph GCSR = new CSRGraph(G);
+        GCSR.getEdgeVariable(0, 1, 0);
+    }
+
+    @Test
+    public void testGetEdgeVariables() {
+        Graph G = new Graph(2, 2);
+        G.addEdge(0, 1, 2, 3);
+
+        CSRGraph GCSR = new CSRGraph(G);
+
+        assertTrue(Arrays.equals(GCSR.getEdgeVariables(0, 1),
+                new int[]{2, 3}));
+        assertEquals(3, GCSR.getEdgeVariable(0, 1, 2));
+    }
+
+
+    @Test
+    public void testToGraph() {
+        Graph G = new Graph(5, 2);
+        G.addEdge(0, 4, 1, 2);
+        G.addEdge(4, 1, 3, 4);
+        G.addEdge(3, 4, 5, 6);
+        G.addEdge(0, 0, 9, 10);
+
+        assertEquals(G, new CSRGraph(G).toGraph());
+    }
+
+    @Test
+    public void testEquals() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 2);
+        G.addEdge(1, 2, 3);
+
+        CSRGraph GCSR = new CSRGraph(G);
+
+        assertEquals(GCSR, new CSRGraph(G));
+
+        G.setEdgeVariable(1, 2, 1, 4);
+
+        assertFalse(GCSR.equals(new CSRGraph(G)));
+    }
+}
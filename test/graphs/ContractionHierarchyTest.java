@@ -0,0 +1,174 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class ContractionHierarchyTest {
+
+    public ContractionHierarchyTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 1 edge variable(s), but "
+                + "there is/are 0 edge variable(s)");
+
+        ContractionHierarchy CH = new ContractionHierarchy(new Graph(2));
+    }
+
+    @Test
+    public void testInitializeZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+    }
+
+    @Test
+    public void testInitialize() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+
+        assertEquals(4, CH.getNrVertices());
+        boolean[] ranks = new boolean[4];
+        for (int v = 0; v < 4; v++) {
+            ranks[CH.getRank(v)] = true;
+        }
+        assertTrue(Arrays.equals(ranks, new boolean[]{true, true, true,
+            true}));
+    }
+
+
+    @Test
+    public void testGetDistanceNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        ContractionHierarchy CH = new ContractionHierarchy(new Graph(2, 1));
+        CH.getDistance(0, 2);
+    }
+
+    @Test
+    public void testGetDistance() {
+        Graph G = new Graph(5, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(0, 2, 3);
+        G.addEdge(3, 3, 1);
+
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+
+        assertEquals(3, CH.getDistance(0, 3));
+        assertEquals(0, CH.getDistance(2, 2));
+        assertEquals(Integer.MAX_VALUE, CH.getDistance(3, 0));
+        assertEquals(Integer.MAX_VALUE, CH.getDistance(0, 4));
+        assertEquals(2, CH.getDistance(1, 3));
+    }
+
+    @Test
+    public void testGetPath() {
+        Graph G = new Graph(5, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(0, 2, 3);
+        G.addEdge(3, 4, 1);
+
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+
+        assertTrue(Arrays.equals(CH.getPath(0, 4),
+                new int[]{0, 1, 2, 3, 4}));
+        assertTrue(Arrays.equals(CH.getPath(2, 2), new int[]{2}));
+        assertTrue(Arrays.equals(CH.getPath(4, 0), new int[]{}));
+    }
+
+    @Test
+    public void testGetPathRandom() {
+        Random random = new Random(8);
+        Graph G = new Graph(400, 1);
+        G.indexEdges();
+        while (G.getNrEdges() < 1600) {
+            int u = random.nextInt(400);
+            int v = random.nextInt(400);
+            if (u != v && !G.hasEdge(u, v)) {
+                G.addEdge(u, v, 1 + random.nextInt(100));
+            }
+        }
+
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+        for (int s = 0; s < 400; s += 13) {
+            int[] ds = Graphs.Dijkstra(G, s)[0];
+            for (int t = 0; t < 400; t++) {
+                assertEquals(ds[t], CH.getDistance(s, t));
+
+                int[] path = CH.getPath(s, t);
+                if (ds[t] == Integer.MAX_VALUE) {
+                    assertEquals(0, path.length);
+                    continue;
+                }
+                assertEquals(s, path[0]);
+                assertEquals(t, path[path.length - 1]);
+                int length = 0;
+                for (int i = 1; i < path.length; i++) {
+                    length += G.getEdgeVariable(path[i - 1], path[i], 1);
+                }
+                assertEquals(ds[t], length);
+            }
+        }
+    }
+
+    @Test
+    public void testGetPathGrid() {
+        int n = 20;
+        Random random = new Random(9);
+        Graph G = new Graph(n * n, 1);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int v = i * n + j;
+                if (j + 1 < n) {
+                    G.addEdge(v, v + 1, 1 + random.nextInt(10));
+                    G.addEdge(v + 1, v, 1 + random.nextInt(10));
+                }
+                if (i + 1 < n) {
+                    G.addEdge(v, v + n, 1 + random.nextInt(10));
+                    G.addEdge(v + n, v, 1 + random.nextInt(10));
+                }
+            }
+        }
+
+        ContractionHierarchy CH = new ContractionHierarchy(G);
+        assertTrue(CH.getNrShortcuts() > 0);
+        for (int s = 0; s < n * n; s += 37) {
+            int[] ds = Graphs.Dijkstra(G, s)[0];
+            for (int t = 0; t < n * n; t++) {
+                assertEquals(ds[t], CH.getDistance(s, t));
+                assertEquals(t, CH.getPath(s, t)[CH.getPath(s, t).length - 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package graphs;
+
+import java.util.NoSuchElementException;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class DialQueueTest {
+
+    public DialQueueTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeNegativeKeySpread() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Cannot have a negative key spread.");
+
+        DialQueue Q = new DialQueue(2, -1);
+    }
+
+
+    @Test
+    public void testInsertTooLargeKey() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Key 5 is more than 3 larger than the last "
+                + "extracted key 0.");
+
+        DialQueue Q = new DialQueue(3, 3);
+        Q.insert(0, 1);
+        Q.insert(1, 5);
+    }
+
+    @Test
+    public void testInsertTooSmallKey() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Key 1 is smaller than the last extracted "
+                + "key 2.");
+
+        DialQueue Q = new DialQueue(3, 4);
+        Q.insert(0, 2);
+        Q.insert(1, 4);
+        Q.extractMin();
+        Q.insert(2, 1);
+    }
+
+    @Test
+    public void testInsertExistingElement() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element 1 is already in the queue.");
+
+        DialQueue Q = new DialQueue(2, 3);
+        Q.insert(1, 1);
+        Q.insert(1, 2);
+    }
+
+
+    @Test
+    public void testDecreaseKey() {
+        DialQueue Q = new DialQueue(3, 5);
+        Q.insert(0, 3);
+        Q.insert(1, 4);
+        Q.insert(2, 5);
+        Q.decreaseKey(2, 2);
+
+        assertEquals(2, Q.extractMin());
+        assertEquals(0, Q.extractMin());
+        assertTrue(Q.contains(1));
+        assertEquals(1, Q.extractMin());
+        assertFalse(Q.contains(1));
+    }
+
+
+    @Test
+    public void testExtractMinEmpty() {
+        exception.expect(NoSuchElementException.class);
+        exception.expectMessage("The queue is empty.");
+
+        DialQueue Q = new DialQueue(2, 3);
+        Q.extractMin();
+    }
+
+    @Test
+    public void testExtractMinWrapsAround() {
+        DialQueue Q = new DialQueue(4, 2);
+        Q.insert(0, 0);
+        Q.insert(1, 2);
+        assertEquals(0, Q.extractMin());
+        Q.insert(2, 1);
+        assertEquals(2, Q.extractMin());
+        Q.insert(3, 3);
+        assertEquals(1, Q.extractMin());
+        assertEquals(3, Q.extractMin());
+        assertTrue(Q.isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package graphs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class DistanceMatrixTest {
+
+    public DistanceMatrixTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeNegativeVertices() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Cannot have a negative number of vertices.");
+
+        DistanceMatrix D = new DistanceMatrix(-1);
+    }
+
+    @Test
+    public void testInitialize() {
+        DistanceMatrix D = new DistanceMatrix(3);
+
+        assertEquals(3, D.getNrVertices());
+        for (int u = 0; u < 3; u++) {
+            assertTrue(Arrays.equals(D.getRow(u), new int[]{
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}));
+        }
+    }
+
+    @Test
+    public void testGetDistanceNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 3 is not a vertex in the graph");
+
+        DistanceMatrix D = new DistanceMatrix(3);
+        D.getDistance(3, 0);
+    }
+
+    @Test
+    public void testSetRow() {
+        DistanceMatrix D = new DistanceMatrix(3);
+        D.setRow(1, new int[]{4, 0, -2});
+
+        assertEquals(-2, D.getDistance(1, 2));
+        assertEquals(Integer.MAX_VALUE, D.getDistance(0, 2));
+        assertTrue(Arrays.equals(D.getRow(1), new int[]{4, 0, -2}));
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        Path file = Files.createTempFile("distances", ".bin");
+        try {
+            DistanceMatrix D = new DistanceMatrix(3, file);
+            D.setRow(2, new int[]{1, 2, 0});
+
+            assertEquals(3 * 3 * Integer.BYTES, Files.size(file));
+            assertEquals(2, D.getDistance(2, 1));
+            assertEquals(Integer.MAX_VALUE, D.getDistance(1, 2));
+            assertTrue(Arrays.equals(D.getRow(2), new int[]{1, 2, 0}));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class FloydWarshallTest {
+
+    public FloydWarshallTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 1 edge variable(s), but "
+                + "there is/are 0 edge variable(s)");
+
+        FloydWarshall FW = new FloydWarshall(new Graph(2));
+    }
+
+    @Test
+    public void testInitializeTooManyVertices() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The input graph has 46400 vertices, which "
+                + "is too many for a distance matrix");
+
+        FloydWarshall FW = new FloydWarshall(new Graph(46400, 1));
+    }
+
+    @Test
+    public void testNegativeWeightCycle() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 2);
+        G.addEdge(2, 0, -4);
+
+        FloydWarshall FW = new FloydWarshall(G);
+
+        assertTrue(FW.hasNegativeCycle());
+    }
+
+    @Test
+    public void testGetDistanceNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        FloydWarshall FW = new FloydWarshall(new Graph(2, 1));
+        FW.getDistance(2, 0);
+    }
+
+    @Test
+    public void testGetDistance() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 3);
+        G.addEdge(1, 2, -2);
+        G.addEdge(2, 0, 1);
+        G.addEdge(0, 2, 4);
+
+        FloydWarshall FW = new FloydWarshall(G);
+
+        assertFalse(FW.hasNegativeCycle());
+        assertEquals(4, FW.getNrVertices());
+        assertEquals(1, FW.getDistance(0, 2));
+        assertEquals(-1, FW.getDistance(1, 0));
+        assertEquals(Integer.MAX_VALUE, FW.getDistance(0, 3));
+        assertTrue(Arrays.equals(FW.getRow(2), new int[]{1, 4, 0,
+            Integer.MAX_VALUE}));
+    }
+
+    @Test
+    public void testGetDistanceLargeWeights() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, Integer.MAX_VALUE - 1);
+        G.addEdge(1, 2, Integer.MAX_VALUE - 1);
+
+        FloydWarshall FW = new FloydWarshall(G);
+
+        assertEquals(Integer.MAX_VALUE - 1, FW.getDistance(0, 1));
+        assertEquals(Integer.MAX_VALUE, FW.getDistance(0, 2));
+        assertFalse(FW.hasNegativeCycle());
+    }
+
+    @Test
+    public void testGetPathNotComputed() {
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("The next-hop matrix was not computed");
+
+        FloydWarshall FW = new FloydWarshall(new Graph(2, 1));
+        FW.getPath(0, 1);
+    }
+
+    @Test
+    public void testGetPath() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 3);
+        G.addEdge(1, 2, -2);
+        G.addEdge(2, 0, 1);
+        G.addEdge(0, 2, 4);
+
+        FloydWarshall FW = new FloydWarshall(G, true);
+
+        assertTrue(Arrays.equals(FW.getPath(0, 2), new int[]{0, 1, 2}));
+        assertTrue(Arrays.equals(FW.getPath(1, 0), new int[]{1, 2, 0}));
+        assertTrue(Arrays.equals(FW.getPath(3, 3), new int[]{3}));
+        assertTrue(Arrays.equals(FW.getPath(0, 3), new int[]{}));
+    }
+
+    @Test
+    public void testGetPathRandom() {
+        int n = 150;
+        Random random = new Random(13);
+        Graph G = new Graph(n, 1);
+        G.indexEdges();
+        int[] potentials = new int[n];
+        for (int v = 0; v < n; v++) {
+            potentials[v] = random.nextInt(100);
+        }
+        while (G.getNrEdges() < 3000) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (u != v && !G.hasEdge(u, v)) {
+                G.addEdge(u, v, 1 + random.nextInt(50) + potentials[u]
+                        - potentials[v]);
+            }
+        }
+
+        FloydWarshall FW = new FloydWarshall(G, true);
+
+        assertFalse(FW.hasNegativeCycle());
+        for (int u = 0; u < n; u++) {
+            int[] ds = Graphs.BellmanFord(G, u)[0];
+            assertTrue(Arrays.equals(FW.getRow(u), ds));
+            for (int v = 0; v < n; v++) {
+                int[] path = FW.getPath(u, v);
+                if (ds[v] == Integer.MAX_VALUE) {
+                    assertEquals(0, path.length);
+                    continue;
+                }
+                assertEquals(u, path[0]);
+                assertEquals(v, path[path.length - 1]);
+                int length = 0;
+                for (int i = 1; i < path.length; i++) {
+                    length += G.getEdgeVariable(path[i - 1], path[i], 1);
+                }
+                assertEquals(ds[v], length);
+            }
+        }
+    }
+}
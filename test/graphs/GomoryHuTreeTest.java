@@ -0,0 +1,132 @@
+package graphs;
+
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class GomoryHuTreeTest {
+
+    public GomoryHuTreeTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 1 edge variable(s), but "
+                + "there is/are 0 edge variable(s)");
+
+        GomoryHuTree T = new GomoryHuTree(new Graph(2));
+    }
+
+    @Test
+    public void testInitializeZeroCapacities() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+        GomoryHuTree T = new GomoryHuTree(G);
+    }
+
+    @Test
+    public void testGetMinCutValueNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        GomoryHuTree T = new GomoryHuTree(new Graph(2, 1));
+        T.getMinCutValue(0, 2);
+    }
+
+    @Test
+    public void testGetMinCutValueEqualVertices() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 1 cannot be cut from itself");
+
+        GomoryHuTree T = new GomoryHuTree(new Graph(2, 1));
+        T.getMinCutValue(1, 1);
+    }
+
+    @Test
+    public void testGetParentCutValueRoot() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 0 is the root of the tree");
+
+        GomoryHuTree T = new GomoryHuTree(new Graph(2, 1));
+        T.getParentCutValue(0);
+    }
+
+    @Test
+    public void testPath() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 3);
+        G.addEdge(2, 1, 2);
+
+        GomoryHuTree T = new GomoryHuTree(G);
+
+        assertEquals(-1, T.getParent(0));
+        assertEquals(0, T.getParent(1));
+        assertEquals(1, T.getParent(2));
+        assertEquals(3, T.getParentCutValue(1));
+        assertEquals(2, T.getParentCutValue(2));
+        assertEquals(3, T.getMinCutValue(0, 1));
+        assertEquals(2, T.getMinCutValue(2, 0));
+        assertEquals(2, T.getMinCutValue(1, 2));
+    }
+
+    @Test
+    public void testDisconnected() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 3);
+        G.addEdge(2, 3, 2);
+
+        GomoryHuTree T = new GomoryHuTree(G);
+
+        assertEquals(3, T.getMinCutValue(0, 1));
+        assertEquals(2, T.getMinCutValue(3, 2));
+        assertEquals(0, T.getMinCutValue(0, 3));
+        assertEquals(0, T.getMinCutValue(1, 2));
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0);
+        for (int i = 0; i < 5; i++) {
+            Graph G = new Graph(40, 1);
+            Graph GU = new Graph(40, 1);
+            while (G.getNrEdges() < 120) {
+                int u = random.nextInt(40);
+                int v = random.nextInt(40);
+                if (u != v && !G.hasEdge(u, v) && !G.hasEdge(v, u)) {
+                    int c = 1 + random.nextInt(20);
+                    G.addEdge(u, v, c);
+                    GU.addEdge(u, v, c);
+                    GU.addEdge(v, u, c);
+                }
+            }
+
+            GomoryHuTree T = new GomoryHuTree(G);
+
+            for (int u = 0; u < 40; u++) {
+                for (int v = u + 1; v < 40; v++) {
+                    assertEquals(Graphs.minCutValue(GU, u, v),
+                            T.getMinCutValue(u, v));
+                }
+            }
+        }
+    }
+}
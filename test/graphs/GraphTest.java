@@ -290,6 +290,156 @@ public class GraphTest {
     }
 
 
+    @Test
+    public void testGetSlot() {
+        Graph G = new Graph(3);
+        G.addEdge(0, 2);
+        G.addEdge(0, 1);
+
+        assertEquals(1, G.getSlot(0, 1));
+        assertEquals(-1, G.getSlot(1, 0));
+    }
+
+
+    @Test
+    public void testGetTargetAndWeight() {
+        Graph G = new Graph(3, 2);
+        G.addEdge(0, 1, 2, 3);
+        G.addEdge(0, 2, 4, 5);
+
+        assertEquals(2, G.getOutDegree(0));
+        assertEquals(2, G.getTarget(0, 1));
+        assertEquals(4, G.getWeight(0, 1));
+        assertEquals(5, G.getSlotVariable(0, 1, 2));
+    }
+
+    @Test
+    public void testSetSlotVariable() {
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+        G.setSlotVariable(0, 0, 1, 2);
+
+        assertEquals(G.toString(), "0 - 1:\t2");
+    }
+
+    @Test
+    public void testSetSlotNonExistingVariable() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge variable 0 is the "
+                    + "destination vertex and so not an edge variable.");
+
+        Graph G = new Graph(3, 1);
+        G.indexEdges();
+        G.addEdge(0, 1, 1);
+        G.setSlotVariable(0, 0, 0, 2);
+    }
+
+    @Test
+    public void testSetSlotNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2, 1);
+        G.setSlotVariable(2, 0, 1, 2);
+    }
+
+    @Test
+    public void testForEachNeighbor() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 3, 1);
+        G.addEdge(0, 1, 2);
+        G.addEdge(0, 2, 3);
+
+        int[] weights = new int[4];
+        G.forEachNeighbor(0, (v, slot) -> weights[v] = G.getWeight(0, slot));
+
+        assertTrue(Arrays.equals(weights, new int[]{0, 2, 3, 1}));
+    }
+
+    @Test
+    public void testForEachNeighborNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2);
+        G.forEachNeighbor(2, (v, slot) -> { });
+    }
+
+    @Test
+    public void testIndexEdges() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 2);
+        G.indexEdges();
+        G.addEdge(0, 2, 3);
+
+        assertTrue(G.isEdgeIndexed());
+        assertTrue(G.hasEdge(0, 1));
+        assertTrue(G.hasEdge(0, 2));
+        assertFalse(G.hasEdge(0, 0));
+        assertEquals(3, G.getEdgeVariable(0, 2, 1));
+    }
+
+    @Test
+    public void testIndexedAddExistingEdge() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge (0, 1) already exists in the graph.");
+
+        Graph G = new Graph(2);
+        G.indexEdges();
+        G.addEdge(0, 1);
+        G.addEdge(0, 1);
+    }
+
+    @Test
+    public void testIndexedRemoveEdge() {
+        Graph G = new Graph(4, 1);
+        G.indexEdges();
+        G.addEdge(0, 1, 1);
+        G.addEdge(0, 2, 2);
+        G.addEdge(0, 3, 3);
+        G.removeEdge(0, 1);
+
+        assertEquals(G.toString(), "0 - 3:\t3\n0 - 2:\t2");
+        assertFalse(G.hasEdge(0, 1));
+        assertEquals(0, G.getSlot(0, 3));
+
+        G.setEdgeVariable(0, 3, 1, 4);
+        G.removeEdge(0, 2);
+
+        assertEquals(G.toString(), "0 - 3:\t4");
+        assertEquals(1, G.getNrEdges());
+    }
+
+    @Test
+    public void testIndexedRemoveNonExistingEdge() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge (0, 1) does not exist in the graph");
+
+        Graph G = new Graph(2);
+        G.indexEdges();
+        G.removeEdge(0, 1);
+    }
+
+    @Test
+    public void testIndexedManyEdges() {
+        int nrVertices = 1000;
+        Graph G = new Graph(nrVertices, 1);
+        G.indexEdges();
+        for (int v = 0; v < nrVertices; v++) {
+            G.addEdge(0, v, v);
+        }
+        for (int v = 0; v < nrVertices; v += 2) {
+            G.removeEdge(0, v);
+        }
+
+        for (int v = 0; v < nrVertices; v++) {
+            assertEquals(v % 2 == 1, G.hasEdge(0, v));
+        }
+        for (int v = 1; v < nrVertices; v += 2) {
+            assertEquals(v, G.getEdgeVariable(0, v, 1));
+        }
+    }
+
     @Test
     public void testGetNonExistingAdjList() {
         exception.expect(IllegalArgumentException.class);
@@ -338,6 +488,44 @@ public class GraphTest {
     }
 
 
+    @Test
+    public void testModCount() {
+        Graph G = new Graph(3, 1);
+        assertEquals(0, G.getModCount());
+
+        G.addEdge(0, 1, 2);
+        G.addEdge(1, 2, 3);
+        assertEquals(2, G.getModCount());
+
+        G.setEdgeVariable(0, 1, 1, 4);
+        G.setEdgeVariables(1, 2, 5);
+        G.setSlotVariable(0, 0, 1, 6);
+        assertEquals(5, G.getModCount());
+
+        G.removeEdge(0, 1);
+        assertEquals(6, G.getModCount());
+
+        G.hasEdge(1, 2);
+        G.getEdgeVariable(1, 2, 1);
+        assertEquals(6, G.getModCount());
+    }
+
+    @Test
+    public void testEdgeVariablesCopied() {
+        Graph G = new Graph(3, 1);
+        int[] vars = {1, 5};
+        G.addEdge(0, vars);
+        vars[1] = -3;
+        assertEquals(5, G.getEdgeVariable(0, 1, 1));
+
+        int[] newVars = {1, 7};
+        G.setEdgeVariables(0, newVars);
+        newVars[1] = -3;
+        assertEquals(7, G.getEdgeVariable(0, 1, 1));
+        assertEquals(2, G.getModCount());
+    }
+
+
     @Test
     public void testEquals1() {
         Graph G1 = new Graph(2);
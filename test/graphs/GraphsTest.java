@@ -1,7 +1,9 @@
 package graphs;
 
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Rule;
@@ -56,6 +58,80 @@ public class GraphsTest {
         assertTrue(Arrays.equals(BFSOutput[1], new int[]{-1, 0, 0}));
     }
 
+    @Test
+    public void testBFSCSR() {
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(0, 2);
+
+        int[][] BFSOutput = Graphs.BFS(new CSRGraph(G), 0);
+
+        assertTrue(Arrays.equals(BFSOutput[0], new int[]{0, 1, 1}));
+        assertTrue(Arrays.equals(BFSOutput[1], new int[]{-1, 0, 0}));
+    }
+
+    @Test
+    public void testBFSRandom() {
+        for (int i = 0; i < 3; i++) {
+            Graph G = randomGraph(300, 300 << 2 * i, 1, i);
+            int[][] expected = Graphs.BFS(G, 0);
+
+            int[][] output = Graphs.directionOptimizingBFS(G,
+                    Graphs.transpose(G), 0);
+            assertArrayEquals(expected[0], output[0]);
+            assertShortestPathTree(G, 0, output[0], output[1]);
+
+            output = Graphs.parallelBFS(G, 0);
+            assertArrayEquals(expected[0], output[0]);
+            assertArrayEquals(expected[1], output[1]);
+        }
+    }
+
+    @Test
+    public void testParallelBFSNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2);
+        int[][] BFSOutput = Graphs.parallelBFS(G, 2);
+    }
+
+    @Test
+    public void testParallelBFS() {
+        Graph G = new Graph(4);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(0, 2);
+        G.addEdge(2, 2);
+
+        int[][] BFSOutput = Graphs.parallelBFS(G, 0);
+
+        assertTrue(Arrays.equals(BFSOutput[0],
+                new int[]{0, 1, 1, Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(BFSOutput[1], new int[]{-1, 0, 0, -1}));
+    }
+
+    @Test
+    public void testParallelBFSTies() {
+        Graph G = new Graph(604);
+        for (int u = 600; u >= 1; u--) {
+            G.addEdge(0, u);
+            G.addEdge(u, 602);
+            G.addEdge(u, 601);
+        }
+        G.addEdge(601, 603);
+        G.addEdge(602, 603);
+
+        int[][] output = Graphs.parallelBFS(new CSRGraph(G), 0);
+
+        assertArrayEquals(Graphs.BFS(G, 0)[1], output[1]);
+        assertEquals(600, output[1][601]);
+        assertEquals(600, output[1][602]);
+        assertEquals(602, output[1][603]);
+        assertEquals(3, output[0][603]);
+    }
+
 
     @Test
     public void testDFSNoEdges() {
@@ -81,6 +157,20 @@ public class GraphsTest {
         assertTrue(Arrays.equals(DFSOutput[2], new int[]{-1, 0, 1}));
     }
 
+    @Test
+    public void testDFSCSR() {
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(0, 2);
+
+        int[][] DFSOutput = Graphs.DFS(new CSRGraph(G));
+
+        assertTrue(Arrays.equals(DFSOutput[0], new int[]{1, 2, 3}));
+        assertTrue(Arrays.equals(DFSOutput[1], new int[]{6, 5, 4}));
+        assertTrue(Arrays.equals(DFSOutput[2], new int[]{-1, 0, 1}));
+    }
+
 
     @Test
     public void testBellmanFordTooManyEdgeVariables() {
@@ -151,6 +241,232 @@ public class GraphsTest {
     }
 
 
+    @Test
+    public void testParallelBellmanFordNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2, 1);
+        int[][] BellmanFordOutput = Graphs.parallelBellmanFord(G, 2);
+    }
+
+    @Test
+    public void testParallelBellmanFordNegativeWeightCycle() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 2);
+        G.addEdge(2, 0, -4);
+
+        int[][] BellmanFordOutput = Graphs.parallelBellmanFord(G, 0);
+
+        assertTrue(Arrays.equals(BellmanFordOutput[1], new int[]{1}));
+    }
+
+    @Test
+    public void testParallelBellmanFord() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 3);
+        G.addEdge(2, 0, 2);
+        G.addEdge(0, 2, 5);
+
+        int[][] BellmanFordOutput = Graphs.parallelBellmanFord(G, 0);
+
+        assertTrue(Arrays.equals(BellmanFordOutput[0], new int[]{0, 1, 4,
+            Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(BellmanFordOutput[1], new int[]{0}));
+        assertTrue(Arrays.equals(BellmanFordOutput[2], new int[]{-1, 0, 1,
+            -1}));
+    }
+
+    @Test
+    public void testParallelBellmanFordRandom() {
+        Random random = new Random(11);
+        for (int i = 0; i < 6; i++) {
+            Graph G = randomGraph(2000, 20000, 50, i);
+            int[] potentials = new int[2000];
+            for (int v = 0; v < 2000; v++) {
+                potentials[v] = random.nextInt(100);
+            }
+            for (int u = 0; u < 2000; u++) {
+                for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                    int v = G.getTarget(u, slot);
+                    G.setSlotVariable(u, slot, 1, G.getWeight(u, slot)
+                            + potentials[u] - potentials[v]);
+                }
+            }
+            if (i % 2 == 1) {
+                int u = random.nextInt(2000);
+                G.setSlotVariable(u, 0, 1, -1000);
+            }
+
+            int[][] expected = Graphs.BellmanFord(G, 0);
+            int[][] output = Graphs.parallelBellmanFord(new CSRGraph(G), 0);
+
+            assertTrue(Arrays.equals(expected[1], output[1]));
+            if (output[1][0] == 0) {
+                assertTrue(Arrays.equals(expected[0], output[0]));
+                assertShortestPathTree(G, 0, output[0], output[2]);
+            }
+        }
+    }
+
+    @Test
+    public void testBellmanFordQueueNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2, 1);
+        int[][] BellmanFordOutput = Graphs.BellmanFordQueue(G, 2);
+    }
+
+    @Test
+    public void testBellmanFordQueueNegativeWeightCycle() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 2);
+        G.addEdge(2, 3, 1);
+        G.addEdge(3, 1, -4);
+
+        int[][] BellmanFordOutput = Graphs.BellmanFordQueue(G, 0);
+
+        assertTrue(Arrays.equals(BellmanFordOutput[1], new int[]{1}));
+        assertEquals(3, BellmanFordOutput[3].length);
+        assertNegativeCycle(G, BellmanFordOutput[3]);
+    }
+
+    @Test
+    public void testBellmanFordQueueNegativeSelfLoop() {
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 1, -1);
+
+        int[][] BellmanFordOutput = Graphs.BellmanFordQueue(G, 0);
+
+        assertTrue(Arrays.equals(BellmanFordOutput[1], new int[]{1}));
+        assertTrue(Arrays.equals(BellmanFordOutput[3], new int[]{1}));
+    }
+
+    @Test
+    public void testBellmanFordQueue() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 3);
+        G.addEdge(2, 0, 2);
+        G.addEdge(0, 2, 5);
+
+        int[][] BellmanFordOutput = Graphs.BellmanFordQueue(G, 0);
+
+        assertTrue(Arrays.equals(BellmanFordOutput[0], new int[]{0, 1, 4,
+            Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(BellmanFordOutput[1], new int[]{0}));
+        assertTrue(Arrays.equals(BellmanFordOutput[2], new int[]{-1, 0, 1,
+            -1}));
+        assertTrue(Arrays.equals(BellmanFordOutput[3], new int[]{}));
+    }
+
+    @Test
+    public void testBellmanFordQueueRandom() {
+        Random random = new Random(10);
+        for (int i = 0; i < 20; i++) {
+            Graph G = randomGraph(200, 1000, 50, i);
+            int[] potentials = new int[200];
+            for (int v = 0; v < 200; v++) {
+                potentials[v] = random.nextInt(100);
+            }
+            for (int u = 0; u < 200; u++) {
+                for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                    int v = G.getTarget(u, slot);
+                    G.setSlotVariable(u, slot, 1, G.getWeight(u, slot)
+                            + potentials[u] - potentials[v]);
+                }
+            }
+            if (i % 2 == 1) {
+                int u = random.nextInt(200);
+                int v = G.getTarget(u, 0);
+                G.setEdgeVariables(u, v, -1000);
+            }
+
+            int[][] expected = Graphs.BellmanFord(G, 0);
+            int[][] output = Graphs.BellmanFordQueue(G, 0);
+
+            assertTrue(Arrays.equals(expected[1], output[1]));
+            if (output[1][0] == 0) {
+                assertTrue(Arrays.equals(expected[0], output[0]));
+                assertShortestPathTree(G, 0, output[0], output[2]);
+            } else {
+                assertNegativeCycle(G, output[3]);
+            }
+        }
+    }
+
+    @Test
+    public void testJohnsonWrongDistanceMatrix() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The distance matrix does not have the same "
+                + "number of vertices as the graph");
+
+        Graph G = new Graph(2, 1);
+        Graphs.Johnson(G, new DistanceMatrix(3));
+    }
+
+    @Test
+    public void testJohnsonNegativeWeightCycle() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The input graph cannot have negative-weight "
+                + "cycles");
+
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 2);
+        G.addEdge(2, 0, -4);
+
+        DistanceMatrix D = Graphs.Johnson(G);
+    }
+
+    @Test
+    public void testJohnson() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 3);
+        G.addEdge(1, 2, -2);
+        G.addEdge(2, 0, 1);
+        G.addEdge(0, 2, 4);
+
+        DistanceMatrix D = Graphs.Johnson(G);
+
+        assertTrue(Arrays.equals(D.getRow(0), new int[]{0, 3, 1,
+            Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(D.getRow(1), new int[]{-1, 0, -2,
+            Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(D.getRow(2), new int[]{1, 4, 0,
+            Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(D.getRow(3), new int[]{Integer.MAX_VALUE,
+            Integer.MAX_VALUE, Integer.MAX_VALUE, 0}));
+    }
+
+    @Test
+    public void testJohnsonRandom() {
+        Random random = new Random(12);
+        Graph G = randomGraph(150, 700, 50, 12);
+        int[] potentials = new int[150];
+        for (int v = 0; v < 150; v++) {
+            potentials[v] = random.nextInt(100);
+        }
+        for (int u = 0; u < 150; u++) {
+            for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                int v = G.getTarget(u, slot);
+                G.setSlotVariable(u, slot, 1, G.getWeight(u, slot)
+                        + potentials[u] - potentials[v]);
+            }
+        }
+
+        DistanceMatrix D = Graphs.Johnson(G);
+        for (int u = 0; u < 150; u++) {
+            assertTrue(Arrays.equals(D.getRow(u),
+                    Graphs.BellmanFord(G, u)[0]));
+        }
+    }
+
     @Test
     public void testDijkstraTooManyEdgeVariables() {
         exception.expect(IllegalArgumentException.class);
@@ -202,6 +518,19 @@ public class GraphsTest {
         int[][] DijkstraOutput = Graphs.Dijkstra(G, 0);
     }
 
+    @Test
+    public void testDijkstraZeroEdgeWeightsAfterValidation() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+        int[][] DijkstraOutput = Graphs.Dijkstra(G, 0);
+
+        G.setEdgeVariable(0, 1, 1, 0);
+        DijkstraOutput = Graphs.Dijkstra(G, 0);
+    }
+
     @Test
     public void testDijkstraNoEdges() {
         Graph G = new Graph(3, 1);
@@ -221,104 +550,765 @@ public class GraphsTest {
 
         int[][] DijkstraOutput = Graphs.Dijkstra(G, 0);
 
-        assertTrue(Arrays.equals(DijkstraOutput[0], new int[]{0, 1, 4}));
-        assertTrue(Arrays.equals(DijkstraOutput[1], new int[]{-1, 0, 1}));
+        assertTrue(Arrays.equals(DijkstraOutput[0], new int[]{0, 1, 4}));
+        assertTrue(Arrays.equals(DijkstraOutput[1], new int[]{-1, 0, 1}));
+    }
+
+    @Test
+    public void testDijkstraLargeWeights() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, Integer.MAX_VALUE - 1);
+        G.addEdge(1, 2, Integer.MAX_VALUE - 1);
+
+        int[][] DijkstraOutput = Graphs.Dijkstra(G, 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0], new int[]{0,
+            Integer.MAX_VALUE - 1, Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(DijkstraOutput[1], new int[]{-1, 0, -1}));
+    }
+
+    @Test
+    public void testDijkstraRandom() {
+        Graph G = randomGraph(200, 2000, 100, 1);
+
+        int[][] DijkstraOutput = Graphs.Dijkstra(G, 0);
+        int[][] BellmanFordOutput = Graphs.BellmanFord(G, 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0], BellmanFordOutput[0]));
+        assertShortestPathTree(G, 0, DijkstraOutput[0], DijkstraOutput[1]);
+    }
+
+    @Test
+    public void testBucketDijkstraZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+
+        int[][] DijkstraOutput = Graphs.bucketDijkstra(G, 0);
+    }
+
+    @Test
+    public void testBucketDijkstra() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 3);
+        G.addEdge(2, 0, 2);
+
+        int[][] DijkstraOutput = Graphs.bucketDijkstra(G, 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0], new int[]{0, 1, 4}));
+        assertTrue(Arrays.equals(DijkstraOutput[1], new int[]{-1, 0, 1}));
+    }
+
+    @Test
+    public void testBucketDijkstraSmallWeights() {
+        Graph G = randomGraph(300, 3000, 10, 2);
+
+        int[][] DijkstraOutput = Graphs.bucketDijkstra(G, 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0],
+                Graphs.Dijkstra(G, 0)[0]));
+        assertShortestPathTree(G, 0, DijkstraOutput[0], DijkstraOutput[1]);
+    }
+
+    @Test
+    public void testBucketDijkstraLargeWeights() {
+        Graph G = randomGraph(300, 3000, 1000000, 3);
+
+        int[][] DijkstraOutput = Graphs.bucketDijkstra(G, 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0],
+                Graphs.Dijkstra(G, 0)[0]));
+        assertShortestPathTree(G, 0, DijkstraOutput[0], DijkstraOutput[1]);
+    }
+
+    @Test
+    public void testDijkstraCSR() {
+        Graph G = new Graph(3, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 3);
+        G.addEdge(2, 0, 2);
+
+        int[][] DijkstraOutput = Graphs.Dijkstra(new CSRGraph(G), 0);
+
+        assertTrue(Arrays.equals(DijkstraOutput[0], new int[]{0, 1, 4}));
+        assertTrue(Arrays.equals(DijkstraOutput[1], new int[]{-1, 0, 1}));
+    }
+
+
+    @Test
+    public void testShortestPathBFSNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2);
+        int[][] output = Graphs.shortestPathBFS(G, 0, 2);
+    }
+
+    @Test
+    public void testShortestPathBFSUnreachable() {
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+
+        int[][] output = Graphs.shortestPathBFS(G, 0, 2);
+
+        assertTrue(Arrays.equals(output[0], new int[]{Integer.MAX_VALUE}));
+        assertTrue(Arrays.equals(output[1], new int[]{}));
+    }
+
+    @Test
+    public void testShortestPathBFS() {
+        Graph G = new Graph(4);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(2, 3);
+        G.addEdge(0, 2);
+
+        int[][] output = Graphs.shortestPathBFS(G, 0, 3);
+
+        assertTrue(Arrays.equals(output[0], new int[]{2}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 2, 3}));
+    }
+
+    @Test
+    public void testShortestPathDijkstraZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+
+        int[][] output = Graphs.shortestPathDijkstra(G, 0, 1);
+    }
+
+    @Test
+    public void testShortestPathDijkstra() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(0, 2, 3);
+
+        int[][] output = Graphs.shortestPathDijkstra(G, 0, 3);
+
+        assertTrue(Arrays.equals(output[0], new int[]{3}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 1, 2, 3}));
+    }
+
+    @Test
+    public void testShortestPathDijkstraSameVertex() {
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+
+        int[][] output = Graphs.shortestPathDijkstra(G, 1, 1);
+
+        assertTrue(Arrays.equals(output[0], new int[]{0}));
+        assertTrue(Arrays.equals(output[1], new int[]{1}));
+    }
+
+    @Test
+    public void testBidirectionalBFSWrongTranspose() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The transposed graph does not have the same "
+                + "number of vertices and edges as the graph");
+
+        Graph G = new Graph(2);
+        G.addEdge(0, 1);
+        int[][] output = Graphs.bidirectionalBFS(G, new Graph(2), 0, 1);
+    }
+
+    @Test
+    public void testBidirectionalBFS() {
+        Graph G = new Graph(5);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(2, 3);
+        G.addEdge(3, 4);
+        G.addEdge(0, 3);
+
+        int[][] output = Graphs.bidirectionalBFS(G, 0, 4);
+
+        assertTrue(Arrays.equals(output[0], new int[]{2}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 3, 4}));
+        assertTrue(Arrays.equals(Graphs.bidirectionalBFS(G, 4, 0)[0],
+                new int[]{Integer.MAX_VALUE}));
+    }
+
+    @Test
+    public void testBidirectionalBFSRandom() {
+        Graph G = randomGraph(300, 900, 1, 4);
+        Graph GT = Graphs.transpose(G);
+        int[] ds = Graphs.BFS(G, 0)[0];
+
+        for (int t = 0; t < 300; t++) {
+            int[][] output = Graphs.bidirectionalBFS(G, GT, 0, t);
+
+            assertEquals(ds[t], output[0][0]);
+            assertPath(G, 0, t, output[0][0], output[1]);
+        }
+    }
+
+    @Test
+    public void testDirectionOptimizingBFSWrongTranspose() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The transposed graph does not have the same "
+                + "number of vertices and edges as the graph");
+
+        Graph G = new Graph(2);
+        G.addEdge(0, 1);
+        int[][] output = Graphs.directionOptimizingBFS(G, new Graph(2), 0);
+    }
+
+    @Test
+    public void testDirectionOptimizingBFS() {
+        Graph G = new Graph(6);
+        G.addEdge(0, 1);
+        G.addEdge(0, 2);
+        G.addEdge(1, 3);
+        G.addEdge(2, 3);
+        G.addEdge(3, 4);
+        G.addEdge(5, 0);
+
+        int[][] output = Graphs.directionOptimizingBFS(G,
+                Graphs.transpose(G), 0);
+
+        assertArrayEquals(new int[] {0, 1, 1, 2, 3, Integer.MAX_VALUE},
+                output[0]);
+        assertEquals(-1, output[1][0]);
+        assertEquals(3, output[1][4]);
+        assertEquals(-1, output[1][5]);
+    }
+
+    @Test
+    public void testDirectionOptimizingBFSSwitch() {
+        Graph G = new Graph(60);
+        for (int u = 4; u >= 1; u--) {
+            G.addEdge(0, u);
+        }
+        for (int u = 1; u <= 4; u++) {
+            for (int v = 8; v >= 5; v--) {
+                G.addEdge(u, v);
+            }
+        }
+        for (int u = 5; u <= 8; u++) {
+            G.addEdge(u, 9);
+        }
+        G.addEdge(9, 11);
+        G.addEdge(9, 10);
+        G.addEdge(10, 12);
+        G.addEdge(11, 12);
+        for (int u = 12; u < 59; u++) {
+            G.addEdge(u, u + 1);
+        }
+
+        int[][] output = Graphs.directionOptimizingBFS(G,
+                Graphs.transpose(G), 0);
+
+        int[] ds = new int[60];
+        int[] parents = new int[60];
+        ds[0] = 0;
+        parents[0] = -1;
+        for (int v = 1; v <= 4; v++) {
+            ds[v] = 1;
+            parents[v] = 0;
+        }
+        for (int v = 5; v <= 8; v++) {
+            ds[v] = 2;
+            parents[v] = 1;
+        }
+        ds[9] = 3;
+        parents[9] = 5;
+        ds[10] = 4;
+        parents[10] = 9;
+        ds[11] = 4;
+        parents[11] = 9;
+        for (int v = 12; v < 60; v++) {
+            ds[v] = v - 7;
+            parents[v] = v - 1;
+        }
+        parents[12] = 11;
+        assertArrayEquals(ds, output[0]);
+        assertArrayEquals(parents, output[1]);
+    }
+
+    @Test
+    public void testBidirectionalDijkstra() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(0, 2, 3);
+
+        int[][] output = Graphs.bidirectionalDijkstra(G, 0, 3);
+
+        assertTrue(Arrays.equals(output[0], new int[]{3}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 1, 2, 3}));
+        assertTrue(Arrays.equals(Graphs.bidirectionalDijkstra(G, 3, 0)[1],
+                new int[]{}));
+    }
+
+    @Test
+    public void testBidirectionalDijkstraRandom() {
+        Graph G = randomGraph(300, 1500, 100, 5);
+        Graph GT = Graphs.transpose(G);
+        int[] ds = Graphs.Dijkstra(G, 7)[0];
+
+        for (int t = 0; t < 300; t++) {
+            int[][] output = Graphs.bidirectionalDijkstra(G, GT, 7, t);
+
+            assertEquals(ds[t], output[0][0]);
+            assertPath(G, 7, t, output[0][0], output[1]);
+            assertTrue(Arrays.equals(output[0],
+                    Graphs.shortestPathDijkstra(G, 7, t)[0]));
+        }
+    }
+
+    @Test
+    public void testDeltaSteppingZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+
+        int[][] output = Graphs.deltaStepping(G, 0);
+    }
+
+    @Test
+    public void testDeltaSteppingNonPositiveDelta() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The bucket width must be positive, but is "
+                + "0.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+
+        int[][] output = Graphs.deltaStepping(G, 0, 0);
+    }
+
+    @Test
+    public void testDeltaStepping() {
+        Graph G = new Graph(5, 1);
+        G.addEdge(0, 1, 4);
+        G.addEdge(0, 2, 1);
+        G.addEdge(2, 1, 2);
+        G.addEdge(1, 3, 1);
+        G.addEdge(2, 3, 5);
+
+        for (int delta = 1; delta <= 8; delta++) {
+            int[][] output = Graphs.deltaStepping(G, 0, delta);
+
+            assertTrue(Arrays.equals(output[0], new int[]{0, 3, 1, 4,
+                Integer.MAX_VALUE}));
+            assertTrue(Arrays.equals(output[1], new int[]{-1, 2, 0, 1, -1}));
+        }
+    }
+
+    @Test
+    public void testDeltaSteppingRandom() {
+        Graph G = randomGraph(5000, 40000, 1000, 7);
+        int[] ds = Graphs.Dijkstra(G, 0)[0];
+
+        int[] deltas = {1, 37, 1000, Integer.MAX_VALUE};
+        for (int delta : deltas) {
+            int[][] output = Graphs.deltaStepping(G, 0, delta);
+
+            assertTrue(Arrays.equals(output[0], ds));
+            assertShortestPathTree(G, 0, output[0], output[1]);
+        }
+        int[][] output = Graphs.deltaStepping(new CSRGraph(G), 0);
+
+        assertTrue(Arrays.equals(output[0], ds));
+        assertShortestPathTree(G, 0, output[0], output[1]);
+    }
+
+    @Test
+    public void testAStarZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+
+        int[][] output = Graphs.AStar(G, 0, 1, v -> 0);
+    }
+
+    @Test
+    public void testAStar() {
+        Graph G = new Graph(5, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(0, 2, 3);
+        G.addEdge(0, 4, 1);
+
+        int[] h = {3, 2, 1, 0, Integer.MAX_VALUE};
+        int[][] output = Graphs.AStar(G, 0, 3, v -> h[v]);
+
+        assertTrue(Arrays.equals(output[0], new int[]{3}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 1, 2, 3}));
+        assertEquals(Integer.MAX_VALUE, Graphs.AStar(G, 3, 0, v -> 0)[0][0]);
+    }
+
+    @Test
+    public void testAStarInconsistentHeuristic() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(0, 2, 3);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 5);
+
+        int[] h = {0, 6, 0, 0};
+        int[][] output = Graphs.AStar(G, 0, 3, v -> h[v]);
+
+        assertTrue(Arrays.equals(output[0], new int[]{7}));
+        assertTrue(Arrays.equals(output[1], new int[]{0, 1, 2, 3}));
+    }
+
+    @Test
+    public void testALTWrongLandmarks() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The landmarks are not computed for a graph "
+                + "with the same number of vertices");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 1);
+        Landmarks landmarks = new Landmarks(new Graph(3, 1), 1);
+
+        int[][] output = Graphs.ALT(G, landmarks, 0, 1);
+    }
+
+    @Test
+    public void testALTRandom() {
+        Graph G = randomGraph(300, 1500, 100, 6);
+        Landmarks landmarks = new Landmarks(G, 8);
+        int[] ds = Graphs.Dijkstra(G, 11)[0];
+
+        for (int t = 0; t < 300; t++) {
+            int[][] output = Graphs.ALT(G, landmarks, 11, t);
+
+            assertEquals(ds[t], output[0][0]);
+            assertPath(G, 11, t, output[0][0], output[1]);
+        }
+    }
+
+    @Test
+    public void testEdmondsKarpTooManyEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 1 edge variable(s), "
+                + "but there is/are 2 edge variable(s)");
+
+        Graph G = new Graph(2, 2);
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+    }
+
+    @Test
+    public void testEdmondsKarpTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 1 edge variable(s), "
+                + "but there is/are 0 edge variable(s)");
+
+        Graph G = new Graph(2);
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+    }
+
+    @Test
+    public void testEdmondsKarpNonExistingVertex1() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2, 1);
+        Graph GStar = Graphs.EdmondsKarp(G, 2, 1);
+    }
+
+    @Test
+    public void testEdmondsKarpNonExistingVertex2() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+
+        Graph G = new Graph(2, 1);
+        Graph GStar = Graphs.EdmondsKarp(G, 1, 2);
+    }
+
+    @Test
+    public void testEdmondsKarpEqualSourceSink() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The source vertex is equal to the"
+                + " sink vertex");
+
+        Graph G = new Graph(2, 1);
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 0);
+    }
+
+    @Test
+    public void testEdmondsKarpNegativeEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, -1);
+
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+    }
+
+    @Test
+    public void testEdmondsKarpZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+    }
+
+    @Test
+    public void testEdmondsKarpAntiParallelEdges() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 5);
+        G.addEdge(0, 2, 3);
+        G.addEdge(1, 2, 4);
+        G.addEdge(2, 1, 2);
+        G.addEdge(1, 3, 2);
+        G.addEdge(2, 3, 6);
+
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 3);
+
+        assertMaxFlow(G, 0, 3, GStar, 8);
+    }
+
+    @Test
+    public void testEdmondsKarpNoEdges() {
+        Graph G = new Graph(3, 1);
+        Graph GStar = Graphs.EdmondsKarp(G, 0, 2);
+
+        assertEquals(G, GStar);
+    }
+
+    @Test
+    public void testEdmondsKarp() {
+        Graph G = new Graph(8, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(0, 4, 10);
+        G.addEdge(1, 2, 10);
+        G.addEdge(2, 3, 10);
+        G.addEdge(3, 7, 10);
+        G.addEdge(4, 3, 1);
+        G.addEdge(4, 5, 10);
+        G.addEdge(5, 6, 10);
+        G.addEdge(6, 7, 10);
+
+        Graph result = Graphs.EdmondsKarp(G, 0, 7);
+
+        Graph expectedResult = new Graph(8, 2);
+        expectedResult.addEdge(0, 1, 10, 10);
+        expectedResult.addEdge(0, 4, 10, 10);
+        expectedResult.addEdge(1, 2, 10, 10);
+        expectedResult.addEdge(2, 3, 10, 10);
+        expectedResult.addEdge(3, 7, 10, 10);
+        expectedResult.addEdge(4, 3, 0, 1);
+        expectedResult.addEdge(4, 5, 10, 10);
+        expectedResult.addEdge(5, 6, 10, 10);
+        expectedResult.addEdge(6, 7, 10, 10);
+
+        assertEquals(result, expectedResult);
     }
 
 
     @Test
-    public void testEdmondsKarpTooManyEdgeVariables() {
+    public void testDinicTooManyEdgeVariables() {
         exception.expect(IllegalArgumentException.class);
         exception.expectMessage("There should be 1 edge variable(s), "
                 + "but there is/are 2 edge variable(s)");
 
         Graph G = new Graph(2, 2);
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+        Graph result = Graphs.Dinic(G, 0, 1);
     }
 
     @Test
-    public void testEdmondsKarpTooFewEdgeVariables() {
+    public void testDinicEqualSourceSink() {
         exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("There should be 1 edge variable(s), "
-                + "but there is/are 0 edge variable(s)");
+        exception.expectMessage("The source vertex is equal to the sink "
+                + "vertex");
 
-        Graph G = new Graph(2);
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+        Graph G = new Graph(2, 1);
+        Graph result = Graphs.Dinic(G, 1, 1);
     }
 
     @Test
-    public void testEdmondsKarpNonExistingVertex1() {
+    public void testDinicZeroEdgeWeights() {
         exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("Vertex 2 is not a vertex in the graph");
+        exception.expectMessage("Non-positive edge weights are not allowed.");
 
         Graph G = new Graph(2, 1);
-        Graph GStar = Graphs.EdmondsKarp(G, 2, 1);
+        G.addEdge(0, 1, 0);
+        Graph result = Graphs.Dinic(G, 0, 1);
     }
 
     @Test
-    public void testEdmondsKarpNonExistingVertex2() {
-        exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("Vertex 2 is not a vertex in the graph");
-
+    public void testDinicNoEdges() {
         Graph G = new Graph(2, 1);
-        Graph GStar = Graphs.EdmondsKarp(G, 1, 2);
+        Graph result = Graphs.Dinic(G, 0, 1);
+
+        assertEquals(result, new Graph(2, 2));
     }
 
     @Test
-    public void testEdmondsKarpEqualSourceSink() {
-        exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("The source vertex is equal to the"
-                + " sink vertex");
+    public void testDinic() {
+        Graph G = new Graph(8, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(0, 4, 10);
+        G.addEdge(1, 2, 10);
+        G.addEdge(2, 3, 10);
+        G.addEdge(3, 7, 10);
+        G.addEdge(4, 3, 1);
+        G.addEdge(4, 5, 10);
+        G.addEdge(5, 6, 10);
+        G.addEdge(6, 7, 10);
 
-        Graph G = new Graph(2, 1);
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 0);
+        Graph result = Graphs.Dinic(G, 0, 7);
+
+        Graph expectedResult = new Graph(8, 2);
+        expectedResult.addEdge(0, 1, 10, 10);
+        expectedResult.addEdge(0, 4, 10, 10);
+        expectedResult.addEdge(1, 2, 10, 10);
+        expectedResult.addEdge(2, 3, 10, 10);
+        expectedResult.addEdge(3, 7, 10, 10);
+        expectedResult.addEdge(4, 3, 0, 1);
+        expectedResult.addEdge(4, 5, 10, 10);
+        expectedResult.addEdge(5, 6, 10, 10);
+        expectedResult.addEdge(6, 7, 10, 10);
+
+        assertEquals(result, expectedResult);
     }
 
     @Test
-    public void testEdmondsKarpNegativeEdgeWeights() {
-        exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("Non-positive edge weights are not allowed.");
-
-        Graph G = new Graph(2, 1);
-        G.addEdge(0, 1, -1);
+    public void testDinicAntiParallelEdges() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 5);
+        G.addEdge(0, 2, 3);
+        G.addEdge(1, 2, 4);
+        G.addEdge(2, 1, 2);
+        G.addEdge(1, 3, 2);
+        G.addEdge(2, 3, 6);
+
+        Graph result = Graphs.Dinic(G, 0, 3);
+
+        assertMaxFlow(G, 0, 3, result, 8);
+    }
 
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+    @Test
+    public void testMaxFlowRandom() {
+        for (int i = 0; i < 3; i++) {
+            Graph G = randomGraph(40, 200, 20, i);
+            long value = getFlowValue(Graphs.EdmondsKarp(G, 0, 39), 0);
+
+            assertMaxFlow(G, 0, 39, Graphs.Dinic(new CSRGraph(G), 0, 39),
+                    value);
+            assertMaxFlow(G, 0, 39, Graphs.capacityScaling(G, 0, 39), value);
+            assertMaxFlow(G, 0, 39, Graphs.pushRelabel(new CSRGraph(G), 0,
+                    39), value);
+            assertEquals(value, Graphs.minCutValue(G, 0, 39));
+            assertMaxFlow(G, 0, 39, Graphs.parallelPushRelabel(
+                    new CSRGraph(G), 0, 39), value);
+
+            Graph GCost = addRandomCosts(G, 0, 20, i);
+            Graph result1 = Graphs.minCostMaxFlow(GCost, 0, 39);
+            Graph result2 = Graphs.minCostMaxFlow(GCost, 0, 39, true);
+            assertMaxFlow(G, 0, 39, result1, value);
+            assertMaxFlow(G, 0, 39, result2, value);
+            assertEquals(getFlowCost(result1), getFlowCost(result2));
+
+            Graph flowGraph = Graphs.Dinic(G, 0, 39);
+            int[][] cut = Graphs.minCut(flowGraph, 0, 39);
+            long cutValue = 0;
+            for (int j = 0; j < cut[1].length; j++) {
+                cutValue += G.getEdgeVariable(cut[1][j], cut[2][j], 1);
+            }
+            assertEquals(value, cutValue);
+
+            Random random = new Random(i);
+            int[][] updates = new int[5][];
+            for (int j = 0; j < updates.length; j++) {
+                int u = random.nextInt(40);
+                while (G.getOutDegree(u) == 0) {
+                    u = random.nextInt(40);
+                }
+                int v = G.getTarget(u, random.nextInt(G.getOutDegree(u)));
+                updates[j] = new int[] {u, v, 1 + random.nextInt(30)};
+                G.setEdgeVariable(u, v, 1, updates[j][2]);
+            }
+            assertMaxFlow(G, 0, 39, Graphs.updateMaxFlow(flowGraph, 0, 39,
+                    updates), getFlowValue(Graphs.EdmondsKarp(G, 0, 39), 0));
+
+            boolean[] left = new boolean[40];
+            Graph GBipartite = new Graph(40);
+            Graph GMatching = new Graph(42, 1);
+            for (int u = 0; u < 20; u++) {
+                left[u] = true;
+                GMatching.addEdge(40, u, 1);
+                GMatching.addEdge(20 + u, 41, 1);
+            }
+            for (int u = 0; u < 40; u++) {
+                for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                    int v = G.getTarget(u, slot);
+                    if (left[u] != left[v]) {
+                        GBipartite.addEdge(u, v);
+                        int l = left[u] ? u : v;
+                        int r = left[u] ? v : u;
+                        if (!GMatching.hasEdge(l, r)) {
+                            GMatching.addEdge(l, r, 1);
+                        }
+                    }
+                }
+            }
+            int[] mates = Graphs.HopcroftKarp(GBipartite, left);
+            int nrMatched = 0;
+            for (int v = 0; v < 40; v++) {
+                if (mates[v] != -1) {
+                    nrMatched++;
+                    assertEquals(v, mates[mates[v]]);
+                    assertTrue(GBipartite.hasEdge(v, mates[v])
+                            || GBipartite.hasEdge(mates[v], v));
+                }
+            }
+            assertEquals(getFlowValue(Graphs.EdmondsKarp(GMatching, 40, 41),
+                    40), nrMatched / 2);
+        }
     }
 
     @Test
-    public void testEdmondsKarpZeroEdgeWeights() {
+    public void testPushRelabelNonExistingVertex() {
         exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("Non-positive edge weights are not allowed.");
+        exception.expectMessage("Vertex 2 is not a vertex in the graph");
 
         Graph G = new Graph(2, 1);
-        G.addEdge(0, 1, 0);
-
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+        Graph result = Graphs.pushRelabel(G, 0, 2);
     }
 
     @Test
-    public void testEdmondsKarpAntiParallelEdges() {
+    public void testPushRelabelNegativeEdgeWeights() {
         exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("The input graph in a Ford-Fulkerson method "
-                + "cannot have anti-parallel edges");
+        exception.expectMessage("Non-positive edge weights are not allowed.");
 
         Graph G = new Graph(2, 1);
-        G.addEdge(0, 1, 2);
-        G.addEdge(1, 0, 1);
-
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 1);
+        G.addEdge(0, 1, -1);
+        Graph result = Graphs.pushRelabel(G, 0, 1);
     }
 
     @Test
-    public void testEdmondsKarpNoEdges() {
-        Graph G = new Graph(3, 1);
-        Graph GStar = Graphs.EdmondsKarp(G, 0, 2);
+    public void testPushRelabelNoEdges() {
+        Graph G = new Graph(2, 1);
+        Graph result = Graphs.pushRelabel(G, 0, 1);
 
-        assertEquals(G, GStar);
+        assertEquals(result, new Graph(2, 2));
+        assertEquals(0, Graphs.minCutValue(G, 0, 1));
     }
 
     @Test
-    public void testEdmondsKarp() {
+    public void testPushRelabel() {
         Graph G = new Graph(8, 1);
         G.addEdge(0, 1, 10);
         G.addEdge(0, 4, 10);
@@ -330,7 +1320,7 @@ public class GraphsTest {
         G.addEdge(5, 6, 10);
         G.addEdge(6, 7, 10);
 
-        Graph result = Graphs.EdmondsKarp(G, 0, 7);
+        Graph result = Graphs.pushRelabel(G, 0, 7);
 
         Graph expectedResult = new Graph(8, 2);
         expectedResult.addEdge(0, 1, 10, 10);
@@ -344,8 +1334,72 @@ public class GraphsTest {
         expectedResult.addEdge(6, 7, 10, 10);
 
         assertEquals(result, expectedResult);
+        assertEquals(20, Graphs.minCutValue(G, 0, 7));
+    }
+
+    @Test
+    public void testPushRelabelExcessReturned() {
+        Graph G = new Graph(5, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(1, 2, 10);
+        G.addEdge(2, 3, 2);
+        G.addEdge(2, 4, 7);
+        G.addEdge(4, 1, 5);
+        G.addEdge(3, 2, 1);
+
+        Graph result = Graphs.pushRelabel(G, 0, 3);
+
+        assertMaxFlow(G, 0, 3, result, 2);
+        assertEquals(2, Graphs.minCutValue(G, 0, 3));
+    }
+
+    @Test
+    public void testParallelPushRelabelEqualSourceSink() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The source vertex is equal to the sink "
+                + "vertex");
+
+        Graph G = new Graph(2, 1);
+        Graph result = Graphs.parallelPushRelabel(G, 0, 0);
+    }
+
+    @Test
+    public void testParallelPushRelabel() {
+        Graph G = new Graph(8, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(0, 4, 10);
+        G.addEdge(1, 2, 10);
+        G.addEdge(2, 3, 10);
+        G.addEdge(3, 7, 10);
+        G.addEdge(4, 3, 1);
+        G.addEdge(4, 5, 10);
+        G.addEdge(5, 6, 10);
+        G.addEdge(6, 7, 10);
+
+        Graph result = Graphs.parallelPushRelabel(G, 0, 7);
+
+        assertMaxFlow(G, 0, 7, result, 20);
+        assertEquals(Graphs.parallelPushRelabel(new Graph(2, 1), 0, 1),
+                new Graph(2, 2));
     }
 
+    @Test
+    public void testParallelPushRelabelWide() {
+        Graph G = new Graph(202, 1);
+        for (int u = 1; u <= 200; u++) {
+            G.addEdge(0, u, 10);
+            if (u % 2 == 1) {
+                G.addEdge(u, u + 1, 5);
+                G.addEdge(u, 201, 5);
+            } else {
+                G.addEdge(u, 201, 15);
+            }
+        }
+
+        Graph result = Graphs.parallelPushRelabel(new CSRGraph(G), 0, 201);
+
+        assertMaxFlow(G, 0, 201, result, 2000);
+    }
 
     @Test
     public void testGetPathNonExistingVertex() {
@@ -522,15 +1576,31 @@ public class GraphsTest {
 
     @Test
     public void testCapacityScalingAntiParallelEdges() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 5);
+        G.addEdge(0, 2, 3);
+        G.addEdge(1, 2, 4);
+        G.addEdge(2, 1, 2);
+        G.addEdge(1, 3, 2);
+        G.addEdge(2, 3, 6);
+
+        Graph GStar = Graphs.capacityScaling(G, 0, 3);
+
+        assertMaxFlow(G, 0, 3, GStar, 8);
+    }
+
+    @Test
+    public void testCapacityScalingZeroEdgeWeightsAfterValidation() {
         exception.expect(IllegalArgumentException.class);
-        exception.expectMessage("The input graph in a Ford-Fulkerson method "
-                + "cannot have anti-parallel edges");
+        exception.expectMessage("Non-positive edge weights are not allowed.");
 
-        Graph G = new Graph(2, 1);
+        Graph G = new Graph(3, 1);
         G.addEdge(0, 1, 2);
-        G.addEdge(1, 0, 1);
+        G.addEdge(1, 2, 1);
+        Graph GStar = Graphs.capacityScaling(G, 0, 2);
 
-        Graph GStar = Graphs.capacityScaling(G, 0, 1);
+        G.setEdgeVariable(1, 2, 1, 0);
+        GStar = Graphs.capacityScaling(G, 0, 2);
     }
 
     @Test
@@ -569,4 +1639,446 @@ public class GraphsTest {
 
         assertEquals(result, expectedResult);
     }
+
+    @Test
+    public void testUpdateMaxFlowTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 2 edge variable(s), "
+                + "but there is/are 1 edge variable(s)");
+
+        Graph flowGraph = new Graph(2, 1);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 1, new int[0][]);
+    }
+
+    @Test
+    public void testUpdateMaxFlowNonExistingEdge() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge (1, 0) does not exist in the graph");
+
+        Graph flowGraph = new Graph(2, 2);
+        flowGraph.addEdge(0, 1, 0, 1);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 1,
+                new int[][] {{1, 0, 1}});
+    }
+
+    @Test
+    public void testUpdateMaxFlowNegativeCapacity() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Negative capacities are not allowed.");
+
+        Graph flowGraph = new Graph(2, 2);
+        flowGraph.addEdge(0, 1, 0, 1);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 1,
+                new int[][] {{0, 1, -1}});
+    }
+
+    @Test
+    public void testUpdateMaxFlowInvalidUpdate() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("A capacity update should have 3 values, "
+                + "but has 2 value(s)");
+
+        Graph flowGraph = new Graph(2, 2);
+        flowGraph.addEdge(0, 1, 0, 1);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 1,
+                new int[][] {{0, 1}});
+    }
+
+    @Test
+    public void testUpdateMaxFlow() {
+        Graph G = new Graph(8, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(0, 4, 10);
+        G.addEdge(1, 2, 10);
+        G.addEdge(2, 3, 10);
+        G.addEdge(3, 7, 10);
+        G.addEdge(4, 3, 1);
+        G.addEdge(4, 5, 10);
+        G.addEdge(5, 6, 10);
+        G.addEdge(6, 7, 10);
+        Graph flowGraph = Graphs.Dinic(G, 0, 7);
+
+        G.setEdgeVariable(1, 2, 1, 5);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 7,
+                new int[][] {{1, 2, 5}});
+        assertMaxFlow(G, 0, 7, result, 15);
+
+        G.setEdgeVariable(3, 7, 1, 0);
+        G.setEdgeVariable(4, 5, 1, 20);
+        G.setEdgeVariable(5, 6, 1, 20);
+        result = Graphs.updateMaxFlow(result, 0, 7,
+                new int[][] {{3, 7, 0}, {4, 5, 20}, {5, 6, 20}});
+        assertMaxFlow(G, 0, 7, result, 10);
+    }
+
+    @Test
+    public void testUpdateMaxFlowReroute() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 10);
+        G.addEdge(0, 2, 5);
+        G.addEdge(1, 2, 10);
+        G.addEdge(1, 3, 10);
+        G.addEdge(2, 3, 10);
+        Graph flowGraph = Graphs.Dinic(G, 0, 3);
+        assertMaxFlow(G, 0, 3, flowGraph, 15);
+
+        G.setEdgeVariable(1, 3, 1, 2);
+        Graph result = Graphs.updateMaxFlow(flowGraph, 0, 3,
+                new int[][] {{1, 3, 2}});
+
+        assertMaxFlow(G, 0, 3, result, 12);
+        assertEquals(5, result.getEdgeVariable(1, 2, 1));
+        assertEquals(7, result.getEdgeVariable(0, 1, 1));
+    }
+
+    @Test
+    public void testMinCutNoMaximumFlow() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The flow graph does not have a maximum flow");
+
+        Graph flowGraph = new Graph(2, 2);
+        flowGraph.addEdge(0, 1, 0, 1);
+        int[][] result = Graphs.minCut(flowGraph, 0, 1);
+    }
+
+    @Test
+    public void testMinCutTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 2 edge variable(s), "
+                + "but there is/are 1 edge variable(s)");
+
+        int[][] result = Graphs.minCut(new Graph(2, 1), 0, 1);
+    }
+
+    @Test
+    public void testMinCut() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 5);
+        G.addEdge(0, 2, 4);
+        G.addEdge(1, 3, 1);
+        G.addEdge(2, 3, 3);
+
+        int[][] result = Graphs.minCut(Graphs.EdmondsKarp(G, 0, 3), 0, 3);
+
+        assertArrayEquals(new int[] {0, 1, 2}, result[0]);
+        assertArrayEquals(new int[] {1, 2}, result[1]);
+        assertArrayEquals(new int[] {3, 3}, result[2]);
+    }
+
+    @Test
+    public void testHopcroftKarpNotBipartite() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The input graph is not bipartite");
+
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        G.addEdge(2, 0);
+        int[] result = Graphs.HopcroftKarp(G);
+    }
+
+    @Test
+    public void testHopcroftKarpInvalidBipartition() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Edge (1, 2) does not go between the two "
+                + "sides of the bipartition");
+
+        Graph G = new Graph(3);
+        G.addEdge(0, 1);
+        G.addEdge(1, 2);
+        int[] result = Graphs.HopcroftKarp(G,
+                new boolean[] {true, false, false});
+    }
+
+    @Test
+    public void testHopcroftKarpBipartitionSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The bipartition should have 3 vertices, but "
+                + "has 2 vertices");
+
+        int[] result = Graphs.HopcroftKarp(new Graph(3),
+                new boolean[] {true, false});
+    }
+
+    @Test
+    public void testHopcroftKarp() {
+        Graph G = new Graph(6);
+        G.addEdge(0, 3);
+        G.addEdge(0, 4);
+        G.addEdge(1, 3);
+        G.addEdge(5, 2);
+        G.addEdge(5, 1);
+
+        int[] result = Graphs.HopcroftKarp(G);
+
+        assertArrayEquals(new int[] {4, 3, 5, 1, 0, 2}, result);
+    }
+
+    @Test
+    public void testMinCostMaxFlowTooFewEdgeVariables() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("There should be 2 edge variable(s), "
+                + "but there is/are 1 edge variable(s)");
+
+        Graph G = new Graph(2, 1);
+        Graph result = Graphs.minCostMaxFlow(G, 0, 1);
+    }
+
+    @Test
+    public void testMinCostMaxFlowEqualSourceSink() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The source vertex is equal to the sink "
+                + "vertex");
+
+        Graph G = new Graph(2, 2);
+        Graph result = Graphs.minCostMaxFlow(G, 1, 1);
+    }
+
+    @Test
+    public void testMinCostMaxFlowZeroCapacities() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 2);
+        G.addEdge(0, 1, 0, 1);
+        Graph result = Graphs.minCostMaxFlow(G, 0, 1);
+    }
+
+    @Test
+    public void testMinCostMaxFlowNegativeCostCycle() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The input graph cannot have negative-cost "
+                + "cycles");
+
+        Graph G = new Graph(4, 2);
+        G.addEdge(0, 1, 1, 1);
+        G.addEdge(2, 3, 2, -3);
+        G.addEdge(3, 2, 5, 1);
+        Graph result = Graphs.minCostMaxFlow(G, 0, 1);
+    }
+
+    @Test
+    public void testMinCostMaxFlow() {
+        Graph G = new Graph(4, 2);
+        G.addEdge(0, 1, 2, 1);
+        G.addEdge(0, 2, 2, 5);
+        G.addEdge(1, 2, 2, 1);
+        G.addEdge(1, 3, 1, 1);
+        G.addEdge(2, 3, 3, 1);
+
+        Graph expectedResult = new Graph(4, 3);
+        expectedResult.addEdge(0, 1, 2, 2, 1);
+        expectedResult.addEdge(0, 2, 2, 2, 5);
+        expectedResult.addEdge(1, 2, 1, 2, 1);
+        expectedResult.addEdge(1, 3, 1, 1, 1);
+        expectedResult.addEdge(2, 3, 3, 3, 1);
+
+        assertEquals(expectedResult, Graphs.minCostMaxFlow(G, 0, 3));
+        assertEquals(expectedResult, Graphs.minCostMaxFlow(G, 0, 3, true));
+    }
+
+    @Test
+    public void testMinCostMaxFlowCostScalingNegativeCostCycle() {
+        Graph G = new Graph(4, 2);
+        G.addEdge(0, 1, 1, 1);
+        G.addEdge(2, 3, 2, -3);
+        G.addEdge(3, 2, 5, 1);
+
+        Graph result = Graphs.minCostMaxFlow(G, 0, 1, true);
+
+        Graph expectedResult = new Graph(4, 3);
+        expectedResult.addEdge(0, 1, 1, 1, 1);
+        expectedResult.addEdge(2, 3, 2, 2, -3);
+        expectedResult.addEdge(3, 2, 2, 5, 1);
+
+        assertEquals(expectedResult, result);
+        assertEquals(-3, getFlowCost(result));
+    }
+
+    @Test
+    public void testMinCostMaxFlowNegativeCosts() {
+        Graph G = new Graph(4, 2);
+        G.addEdge(0, 1, 1, 2);
+        G.addEdge(0, 2, 1, 1);
+        G.addEdge(2, 1, 1, -3);
+        G.addEdge(1, 3, 2, 0);
+        G.addEdge(2, 3, 1, 0);
+
+        Graph expectedResult = new Graph(4, 3);
+        expectedResult.addEdge(0, 1, 1, 1, 2);
+        expectedResult.addEdge(0, 2, 1, 1, 1);
+        expectedResult.addEdge(2, 1, 1, 1, -3);
+        expectedResult.addEdge(1, 3, 2, 2, 0);
+        expectedResult.addEdge(2, 3, 0, 1, 0);
+
+        assertEquals(expectedResult, Graphs.minCostMaxFlow(G, 0, 3));
+        assertEquals(expectedResult, Graphs.minCostMaxFlow(G, 0, 3, true));
+    }
+
+    private static Graph randomGraph(int nrVertices, int nrEdges,
+            int maxWeight, long seed) {
+        Random random = new Random(seed);
+        Graph G = new Graph(nrVertices, 1);
+        G.indexEdges();
+        while (G.getNrEdges() < nrEdges) {
+            int u = random.nextInt(nrVertices);
+            int v = random.nextInt(nrVertices);
+            if (u != v && !G.hasEdge(u, v)) {
+                G.addEdge(u, v, 1 + random.nextInt(maxWeight));
+            }
+        }
+
+        return G;
+    }
+
+    private static Graph addRandomCosts(Graph G, int minCost, int maxCost,
+            long seed) {
+        Random random = new Random(seed);
+        Graph GCost = new Graph(G.getNrVertices(), 2);
+        for (int u = 0; u < G.getNrVertices(); u++) {
+            for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                GCost.addEdge(u, G.getTarget(u, slot), G.getWeight(u, slot),
+                        minCost + random.nextInt(maxCost - minCost + 1));
+            }
+        }
+
+        return GCost;
+    }
+
+    private static long getFlowCost(Graph flowGraph) {
+        long cost = 0;
+        for (int u = 0; u < flowGraph.getNrVertices(); u++) {
+            for (int slot = 0; slot < flowGraph.getOutDegree(u); slot++) {
+                cost += (long)flowGraph.getSlotVariable(u, slot, 1)
+                        * flowGraph.getSlotVariable(u, slot, 3);
+            }
+        }
+
+        return cost;
+    }
+
+    private static long getFlowValue(Graph flowGraph, int s) {
+        long value = 0;
+        for (int u = 0; u < flowGraph.getNrVertices(); u++) {
+            for (int slot = 0; slot < flowGraph.getOutDegree(u); slot++) {
+                int f = flowGraph.getSlotVariable(u, slot, 1);
+                if (u == s) {
+                    value += f;
+                }
+                if (flowGraph.getTarget(u, slot) == s) {
+                    value -= f;
+                }
+            }
+        }
+
+        return value;
+    }
+
+    private static void assertMaxFlow(AdjacencyGraph G, int s, int t,
+            Graph flowGraph, long value) {
+        int nrVertices = G.getNrVertices();
+        assertEquals(nrVertices, flowGraph.getNrVertices());
+        assertEquals(G.getNrEdges(), flowGraph.getNrEdges());
+
+        long[] excesses = new long[nrVertices];
+        for (int u = 0; u < nrVertices; u++) {
+            assertEquals(G.getOutDegree(u), flowGraph.getOutDegree(u));
+            for (int slot = 0; slot < G.getOutDegree(u); slot++) {
+                int v = flowGraph.getTarget(u, slot);
+                int f = flowGraph.getSlotVariable(u, slot, 1);
+                int c = flowGraph.getSlotVariable(u, slot, 2);
+                assertEquals(G.getTarget(u, slot), v);
+                assertEquals(G.getWeight(u, slot), c);
+                assertTrue(0 <= f && f <= c);
+                excesses[u] -= f;
+                excesses[v] += f;
+            }
+        }
+        for (int v = 0; v < nrVertices; v++) {
+            if (v != s && v != t) {
+                assertEquals(0, excesses[v]);
+            }
+        }
+        assertEquals(value, excesses[t]);
+
+        boolean[] reachable = new boolean[nrVertices];
+        LinkedList<Integer> queue = new LinkedList<>();
+        reachable[s] = true;
+        queue.add(s);
+        while (!queue.isEmpty()) {
+            int u = queue.remove();
+            for (int x = 0; x < nrVertices; x++) {
+                for (int slot = 0; slot < flowGraph.getOutDegree(x); slot++) {
+                    int y = flowGraph.getTarget(x, slot);
+                    int f = flowGraph.getSlotVariable(x, slot, 1);
+                    int c = flowGraph.getSlotVariable(x, slot, 2);
+                    int v = -1;
+                    if (x == u && f < c) {
+                        v = y;
+                    } else if (y == u && f > 0) {
+                        v = x;
+                    }
+                    if (v != -1 && !reachable[v]) {
+                        reachable[v] = true;
+                        queue.add(v);
+                    }
+                }
+            }
+        }
+        assertFalse(reachable[t]);
+    }
+
+    private static void assertShortestPathTree(AdjacencyGraph G, int s,
+            int[] ds, int[] parents) {
+        for (int v = 0; v < G.getNrVertices(); v++) {
+            if (v == s || ds[v] == Integer.MAX_VALUE) {
+                assertEquals(-1, parents[v]);
+            } else {
+                int u = parents[v];
+                int slot = -1;
+                for (int i = 0; i < G.getOutDegree(u); i++) {
+                    if (G.getTarget(u, i) == v) {
+                        slot = i;
+                    }
+                }
+                assertTrue(slot != -1);
+                assertEquals(ds[v], ds[u] + G.getWeight(u, slot));
+            }
+        }
+    }
+
+    private static void assertNegativeCycle(Graph G, int[] cycle) {
+        assertTrue(cycle.length > 0);
+        long weight = 0;
+        for (int i = 0; i < cycle.length; i++) {
+            int u = cycle[i];
+            int v = cycle[(i + 1) % cycle.length];
+            weight += G.getEdgeVariable(u, v, 1);
+        }
+        assertTrue(weight < 0);
+    }
+
+    private static void assertPath(AdjacencyGraph G, int s, int t,
+            int distance, int[] path) {
+        if (distance == Integer.MAX_VALUE) {
+            assertEquals(0, path.length);
+            return;
+        }
+
+        assertEquals(s, path[0]);
+        assertEquals(t, path[path.length - 1]);
+        long length = 0;
+        for (int i = 1; i < path.length; i++) {
+            int u = path[i - 1];
+            int slot = -1;
+            for (int j = 0; j < G.getOutDegree(u); j++) {
+                if (G.getTarget(u, j) == path[i]) {
+                    slot = j;
+                }
+            }
+            assertTrue(slot != -1);
+            length += G.getNrEdgeVariables() == 0 ? 1 : G.getWeight(u, slot);
+        }
+        assertEquals(distance, length);
+    }
 }
@@ -0,0 +1,177 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class IndexedDaryHeapTest {
+
+    public IndexedDaryHeapTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeNegativeCapacity() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Cannot have a negative capacity.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(-1);
+    }
+
+    @Test
+    public void testInitializeTooFewChildren() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Every node must have at least 2 children.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2, 1);
+    }
+
+
+    @Test
+    public void testInsertExistingElement() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element 1 is already in the heap.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2);
+        Q.insert(1, 3);
+        Q.insert(1, 4);
+    }
+
+    @Test
+    public void testInsertNonExistingElement() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element 2 is not an element of the heap");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2);
+        Q.insert(2, 3);
+    }
+
+    @Test
+    public void testInsert() {
+        IndexedDaryHeap Q = new IndexedDaryHeap(3);
+        Q.insert(2, 5);
+        Q.insert(0, 7);
+
+        assertEquals(2, Q.size());
+        assertTrue(Q.contains(0));
+        assertFalse(Q.contains(1));
+        assertEquals(5, Q.getKey(2));
+        assertEquals(2, Q.peekMin());
+    }
+
+
+    @Test
+    public void testDecreaseKeyLargerKey() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The new key 4 is larger than the current "
+                + "key 3.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2);
+        Q.insert(0, 3);
+        Q.decreaseKey(0, 4);
+    }
+
+    @Test
+    public void testDecreaseKeyNotInHeap() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element 0 is not in the heap.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2);
+        Q.decreaseKey(0, 4);
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        IndexedDaryHeap Q = new IndexedDaryHeap(3);
+        Q.insert(0, 3);
+        Q.insert(1, 4);
+        Q.insert(2, 5);
+        Q.decreaseKey(2, 1);
+
+        assertEquals(2, Q.extractMin());
+        assertEquals(0, Q.extractMin());
+        assertEquals(1, Q.extractMin());
+        assertTrue(Q.isEmpty());
+    }
+
+
+    @Test
+    public void testClear() {
+        IndexedDaryHeap Q = new IndexedDaryHeap(3);
+        Q.insert(0, 3);
+        Q.insert(2, 1);
+        Q.clear();
+
+        assertTrue(Q.isEmpty());
+        assertFalse(Q.contains(0));
+        assertFalse(Q.contains(2));
+        Q.insert(0, 5);
+        assertEquals(0, Q.extractMin());
+    }
+
+
+    @Test
+    public void testExtractMinEmpty() {
+        exception.expect(NoSuchElementException.class);
+        exception.expectMessage("The heap is empty.");
+
+        IndexedDaryHeap Q = new IndexedDaryHeap(2);
+        Q.extractMin();
+    }
+
+    @Test
+    public void testExtractMinExtremeKeys() {
+        IndexedDaryHeap Q = new IndexedDaryHeap(3);
+        Q.insert(0, Integer.MAX_VALUE);
+        Q.insert(1, Integer.MIN_VALUE);
+        Q.insert(2, 0);
+
+        assertEquals(1, Q.extractMin());
+        assertEquals(2, Q.extractMin());
+        assertEquals(0, Q.extractMin());
+    }
+
+    @Test
+    public void testExtractMin() {
+        int n = 1000;
+        Random random = new Random(42);
+        for (int d = 2; d <= 8; d *= 2) {
+            IndexedDaryHeap Q = new IndexedDaryHeap(n, d);
+            int[] keys = new int[n];
+            for (int v = 0; v < n; v++) {
+                keys[v] = random.nextInt(10000);
+                Q.insert(v, keys[v]);
+            }
+            for (int v = 0; v < n; v += 3) {
+                keys[v] -= random.nextInt(10000);
+                Q.decreaseKey(v, keys[v]);
+            }
+
+            int[] extractedKeys = new int[n];
+            for (int i = 0; i < n; i++) {
+                int v = Q.extractMin();
+                assertFalse(Q.contains(v));
+                extractedKeys[i] = keys[v];
+            }
+            Arrays.sort(keys);
+
+            assertTrue(Arrays.equals(extractedKeys, keys));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class LandmarksTest {
+
+    public LandmarksTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInitializeNoLandmarks() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The number of landmarks must be in [1,3], but "
+                + "is 0.");
+
+        Landmarks landmarks = new Landmarks(new Graph(3, 1), 0);
+    }
+
+    @Test
+    public void testInitializeTooManyLandmarks() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The number of landmarks must be in [1,3], but "
+                + "is 4.");
+
+        Landmarks landmarks = new Landmarks(new Graph(3, 1), 4);
+    }
+
+    @Test
+    public void testInitializeZeroEdgeWeights() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Non-positive edge weights are not allowed.");
+
+        Graph G = new Graph(2, 1);
+        G.addEdge(0, 1, 0);
+        Landmarks landmarks = new Landmarks(G, 1);
+    }
+
+    @Test
+    public void testGetLandmarks() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 1);
+        G.addEdge(1, 2, 1);
+        G.addEdge(2, 3, 1);
+        G.addEdge(3, 0, 1);
+
+        Landmarks landmarks = new Landmarks(G, 2);
+
+        assertEquals(2, landmarks.getNrLandmarks());
+        assertEquals(4, landmarks.getNrVertices());
+        assertTrue(Arrays.equals(landmarks.getLandmarks(), new int[]{3, 2}));
+    }
+
+
+    @Test
+    public void testGetLowerBoundNonExistingVertex() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Vertex 4 is not a vertex in the graph");
+
+        Landmarks landmarks = new Landmarks(new Graph(4, 1), 1);
+        landmarks.getLowerBound(0, 4);
+    }
+
+    @Test
+    public void testGetLowerBound() {
+        Graph G = new Graph(4, 1);
+        G.addEdge(0, 1, 2);
+        G.addEdge(1, 2, 3);
+        G.addEdge(2, 3, 4);
+
+        Landmarks landmarks = new Landmarks(G, 1);
+
+        assertTrue(Arrays.equals(landmarks.getLandmarks(), new int[]{3}));
+        assertEquals(7, landmarks.getLowerBound(1, 3));
+        assertEquals(4, landmarks.getLowerBound(2, 3));
+        assertEquals(0, landmarks.getLowerBound(3, 1));
+        assertEquals(9, landmarks.getLowerBound(0, 3));
+        assertEquals(4, landmarks.getHeuristic(3).applyAsInt(2));
+    }
+
+    @Test
+    public void testGetLowerBoundAdmissible() {
+        Graph G = new Graph(100, 1);
+        Random random = new Random(3);
+        while (G.getNrEdges() < 400) {
+            int u = random.nextInt(100);
+            int v = random.nextInt(100);
+            if (u != v && !G.hasEdge(u, v)) {
+                G.addEdge(u, v, 1 + random.nextInt(50));
+            }
+        }
+
+        Landmarks landmarks = new Landmarks(G, 5);
+        for (int s = 0; s < 100; s += 7) {
+            int[] ds = Graphs.Dijkstra(G, s)[0];
+            for (int t = 0; t < 100; t++) {
+                assertTrue(landmarks.getLowerBound(s, t) <= ds[t]);
+            }
+        }
+    }
+}
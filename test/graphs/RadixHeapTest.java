@@ -0,0 +1,107 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author N.C.M. van Nistelrooij
+ */
+public class RadixHeapTest {
+
+    public RadixHeapTest() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+
+    @Test
+    public void testInsertTooSmallKey() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Key 1 is smaller than the last extracted "
+                + "key 2.");
+
+        RadixHeap Q = new RadixHeap(3);
+        Q.insert(0, 2);
+        Q.insert(1, 4);
+        Q.extractMin();
+        Q.insert(2, 1);
+    }
+
+    @Test
+    public void testDecreaseKeyLargerKey() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The new key 4 is larger than the current "
+                + "key 3.");
+
+        RadixHeap Q = new RadixHeap(2);
+        Q.insert(0, 3);
+        Q.decreaseKey(0, 4);
+    }
+
+    @Test
+    public void testExtractMinEmpty() {
+        exception.expect(NoSuchElementException.class);
+        exception.expectMessage("The heap is empty.");
+
+        RadixHeap Q = new RadixHeap(2);
+        Q.extractMin();
+    }
+
+    @Test
+    public void testExtractMinExtremeKeys() {
+        RadixHeap Q = new RadixHeap(3);
+        Q.insert(0, 0);
+        Q.insert(1, Integer.MAX_VALUE);
+        Q.insert(2, 1 << 30);
+
+        assertEquals(0, Q.extractMin());
+        assertEquals(2, Q.extractMin());
+        assertEquals(1, Q.extractMin());
+        assertTrue(Q.isEmpty());
+    }
+
+    @Test
+    public void testExtractMin() {
+        int n = 1000;
+        Random random = new Random(42);
+        RadixHeap Q = new RadixHeap(n);
+        int[] keys = new int[n];
+        int[] extractedKeys = new int[n];
+        int nrExtracted = 0;
+        int last = 0;
+        for (int v = 0; v < n; v++) {
+            keys[v] = last + random.nextInt(100000);
+            Q.insert(v, keys[v]);
+            if (v % 4 == 3) {
+                int u = v - 1 - random.nextInt(3);
+                if (Q.contains(u) && keys[u] > last) {
+                    keys[u] = last + random.nextInt(keys[u] - last);
+                    Q.decreaseKey(u, keys[u]);
+                }
+
+                int min = Q.extractMin();
+                extractedKeys[nrExtracted++] = keys[min];
+                last = keys[min];
+            }
+        }
+        while (!Q.isEmpty()) {
+            extractedKeys[nrExtracted++] = keys[Q.extractMin()];
+        }
+
+        int[] sortedKeys = extractedKeys.clone();
+        Arrays.sort(sortedKeys);
+        assertTrue(Arrays.equals(extractedKeys, sortedKeys));
+    }
+}